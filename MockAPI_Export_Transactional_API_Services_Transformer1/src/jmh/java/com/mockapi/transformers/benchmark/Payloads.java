@@ -0,0 +1,96 @@
+package com.mockapi.transformers.benchmark;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Realistic request bodies for the six export transaction services.
+ */
+final class Payloads {
+
+    private Payloads() {
+    }
+
+    static byte[] valid(String service) {
+        return body(service, validInput(service));
+    }
+
+    static byte[] invalid(String service) {
+        return body(service, invalidInput(service));
+    }
+
+    /** Shipping-bill adjustment carrying {@code invoices} invoices, all valid. */
+    static byte[] shippingBillAdjustment(int invoices) {
+        StringBuilder input = new StringBuilder(256 + invoices * 160)
+                .append(SHIPPING_BILL_ADJUSTMENT_HEADER)
+                .append(",\"invoiceList\":[");
+
+        for (int i = 1; i <= invoices; i++) {
+            if (i > 1) input.append(',');
+            input.append("{\"invoiceSerialNo\":\"").append(i)
+                 .append("\",\"invoiceNumber\":\"INV").append(i)
+                 .append("\",\"invoiceDate\":\"01/09/2026\",\"writeoffAmount\":\"")
+                 .append(100 + i).append(".0000\",\"invoiceClosureIndicator\":\"1\"}");
+        }
+        input.append(']');
+
+        return body("shipping-bill-adjustment", input.toString());
+    }
+
+    // ---------- Helpers ----------
+
+    private static byte[] body(String service, String serviceInput) {
+        String json = "{\"request-header\":{\"request-id\":\"REQ-" + service.hashCode()
+                + "\",\"service-name\":\"" + service.toUpperCase().replace('-', '_')
+                + "\",\"request-time\":\"17/10/2026 10.30 A.M.\",\"request-source\":\"TradeFlow\"},"
+                + "\"service-input\":{" + serviceInput + "}}";
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static final String SHIPPING_BILL_ADJUSTMENT_HEADER =
+            "\"exportType\":\"1\",\"portCode\":\"INBOM4\",\"shippingBillNo\":\"1234567\","
+            + "\"shippingBillDate\":\"01/09/2026\",\"leoDate\":\"02/09/2026\",\"adCode\":\"6390005\","
+            + "\"recordIndicator\":\"1\",\"ieCode\":\"ABCDE12345\",\"writeoffReferenceNumber\":\"WO-1\","
+            + "\"adjustmentIndicator\":\"1\",\"writeOffDate\":\"16/10/2026\",\"shipmentInd\":\"1\"";
+
+    private static String validInput(String service) {
+        switch (service) {
+            case "efirc-issuance":
+                return "\"irmNumber\":\"IRM000123\",\"irmAdCode\":\"6390005\",\"fircFlag\":\"Y\","
+                        + "\"fircNumber\":\"FIRC0001\",\"fircIssueDate\":\"15/10/2026\","
+                        + "\"fircAmount\":\"1500.00\",\"recordIndicator\":\"1\"";
+            case "efirc-adjustment":
+                return "\"fircNumber\":\"FIRC0001\",\"adCode\":\"6390005\",\"remitterCurrency\":\"USD\","
+                        + "\"adjustedAmount\":\"100.00\",\"approvalBy\":\"1\",\"adjustmentDate\":\"16/10/2026\","
+                        + "\"reasonForAdjustment\":\"1\",\"adjustmentSeqNumber\":\"SEQ1\",\"recordIndicator\":\"1\"";
+            case "irm-adjustment":
+                return "\"irmNumber\":\"IRM000123\",\"remittanceAdCode\":\"6390005\",\"ieCode\":\"ABCDE12345\","
+                        + "\"adjustmentSeqNumber\":\"SEQ1\",\"reasonForAdjustment\":\"1\",\"adjustedAmount\":\"250.5000\","
+                        + "\"remitterCurrency\":\"USD\",\"adjustmentDate\":\"16/10/2026\",\"approvalBy\":\"1\","
+                        + "\"recordIndicator\":\"1\",\"letterNo\":\"L123\",\"docNumber\":\"D1\","
+                        + "\"docDate\":\"01/10/2026\",\"docPort\":\"INBOM4\"";
+            case "irm-extension":
+                return "\"irmNumber\":\"IRM000123\",\"irmADCode\":\"6390005\",\"ieCode\":\"ABCDE12345\","
+                        + "\"extensionDate\":\"16/10/2026\",\"extensionIndicator\":\"1\",\"recordIndicator\":\"1\","
+                        + "\"letterNumber\":\"LTR-9\",\"letterDate\":\"10/10/2026\"";
+            case "shipping-bill-adjustment":
+                return SHIPPING_BILL_ADJUSTMENT_HEADER + ",\"invoiceList\":[{\"invoiceSerialNo\":\"1\","
+                        + "\"invoiceNumber\":\"INV1\",\"invoiceDate\":\"01/09/2026\","
+                        + "\"writeoffAmount\":\"100.0000\",\"invoiceClosureIndicator\":\"1\"}]";
+            case "shipping-bill-extension":
+                return "\"exportType\":\"1\",\"portCode\":\"INBOM4\",\"shippingBillNo\":\"1234567\","
+                        + "\"shippingBillDate\":\"01/09/2026\",\"leoDate\":\"02/09/2026\",\"adCode\":\"6390005\","
+                        + "\"ieCode\":\"ABCDE12345\",\"recordIndicator\":\"1\",\"extensionBy\":\"1\","
+                        + "\"extensionDate\":\"16/10/2026\",\"letterNumber\":\"LTR0000001\",\"letterDate\":\"10/10/2026\"";
+            default:
+                throw new IllegalArgumentException(service);
+        }
+    }
+
+    /** Valid input with a missing mandatory field and an over-long one. */
+    private static String invalidInput(String service) {
+        String input = validInput(service);
+        int firstComma = input.indexOf(",\"");
+        String withoutFirst = input.substring(firstComma + 1);
+        return withoutFirst.replace("\"6390005\"", "\"63900051234\"");
+    }
+}
@@ -0,0 +1,31 @@
+package com.mockapi.transformers.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Shipping-bill adjustment with growing invoiceList payloads, where parsing
+ * and allocation dominate.
+ */
+@State(Scope.Benchmark)
+public class ShippingBillInvoiceBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int invoices;
+
+    private TransformerBenchmark.Invocation invocation;
+
+    @Setup
+    public void setUp() {
+        invocation = TransformerBenchmark.Invocation.of(
+                "shipping-bill-adjustment", Payloads.shippingBillAdjustment(invoices));
+    }
+
+    @Benchmark
+    public Object transform() {
+        return invocation.run();
+    }
+}
@@ -0,0 +1,146 @@
+package com.mockapi.transformers.benchmark;
+
+import com.github.tomakehurst.wiremock.http.ImmutableRequest;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.mockapi.transformers.common.RequestScope;
+import com.mockapi.transformers.efirc_adjustment.eFIRCAdjustmentTransformer;
+import com.mockapi.transformers.efirc_issuance.eFIRCIssuanceTransformer;
+import com.mockapi.transformers.irm_adjustment.IRMAdjustmentTransformer;
+import com.mockapi.transformers.irm_extension.IRMExtensionTransformer;
+import com.mockapi.transformers.shipping_bill_adjustment.ShippingBillAdjustmentTransformer;
+import com.mockapi.transformers.shipping_bill_extension.ShippingBillExtensionTransformer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+
+/**
+ * transform() of every transformer with a small valid and invalid payload.
+ *
+ * Run from the module directory so the transformers find mappings/ and __files/.
+ */
+@State(Scope.Benchmark)
+public class TransformerBenchmark {
+
+    static final String BASE_URL =
+            "http://localhost:7001/trracsapiserv/bankname/apiservices/export-transaction-api-serv/";
+
+    @Param({
+            "efirc-issuance",
+            "efirc-adjustment",
+            "irm-adjustment",
+            "irm-extension",
+            "shipping-bill-adjustment",
+            "shipping-bill-extension"
+    })
+    public String service;
+
+    @Param({"valid", "invalid"})
+    public String payload;
+
+    private Invocation invocation;
+
+    @Setup
+    public void setUp() {
+        byte[] body = "valid".equals(payload) ? Payloads.valid(service) : Payloads.invalid(service);
+        invocation = Invocation.of(service, body);
+    }
+
+    @Benchmark
+    public Object transform() {
+        return invocation.run();
+    }
+
+    /**
+     * One prepared call to a transformer: the serve event, and the response
+     * WireMock would pass in.
+     */
+    static final class Invocation {
+
+        private final ServeEvent serveEvent;
+        private final Runner runner;
+
+        private Invocation(ServeEvent serveEvent, Runner runner) {
+            this.serveEvent = serveEvent;
+            this.runner = runner;
+        }
+
+        static Invocation of(String service, byte[] body) {
+            Request request = ImmutableRequest.create()
+                    .withAbsoluteUrl(BASE_URL + service)
+                    .withMethod(RequestMethod.POST)
+                    .withHeader("Content-Type", "application/json")
+                    .withBody(body)
+                    .build();
+
+            Map<String, Object> parameters = new HashMap<>();
+            parameters.put("successFile", service + "-success-response.json");
+            parameters.put("failFile", service + "-fail-response.json");
+
+            StubMapping stub = any(anyUrl())
+                    .willReturn(aResponse().withStatus(200).withTransformerParameters(parameters))
+                    .build();
+            ServeEvent serveEvent = ServeEvent.of(request)
+                    .withStubMapping(stub)
+                    .withResponseDefinition(stub.getResponse());
+
+            return new Invocation(serveEvent, runner(service));
+        }
+
+        Object run() {
+            // WireMock starts each serve event with an empty scope, so every call parses the body
+            RequestScope.clear();
+            return runner.run(serveEvent);
+        }
+
+        private static Runner runner(String service) {
+            Response response = Response.response().status(200).build();
+
+            switch (service) {
+                case "efirc-issuance": {
+                    eFIRCIssuanceTransformer transformer = new eFIRCIssuanceTransformer();
+                    return transformer::transform;
+                }
+                case "efirc-adjustment": {
+                    eFIRCAdjustmentTransformer transformer = new eFIRCAdjustmentTransformer();
+                    return serveEvent -> transformer.transform(response, serveEvent);
+                }
+                case "irm-adjustment": {
+                    IRMAdjustmentTransformer transformer = new IRMAdjustmentTransformer();
+                    return transformer::transform;
+                }
+                case "irm-extension": {
+                    IRMExtensionTransformer transformer = new IRMExtensionTransformer();
+                    return serveEvent -> transformer.transform(response, serveEvent);
+                }
+                case "shipping-bill-adjustment": {
+                    ShippingBillAdjustmentTransformer transformer = new ShippingBillAdjustmentTransformer();
+                    return transformer::transform;
+                }
+                case "shipping-bill-extension": {
+                    ShippingBillExtensionTransformer transformer = new ShippingBillExtensionTransformer();
+                    return serveEvent -> transformer.transform(response, serveEvent);
+                }
+                default:
+                    throw new IllegalArgumentException(service);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface Runner {
+        Object run(ServeEvent serveEvent);
+    }
+}
@@ -0,0 +1,30 @@
+package com.mockapi.transformers.loadtest;
+
+import com.mockapi.transformers.metrics.LatencyHistogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Client-side latency and response counts of one endpoint.
+ */
+final class EndpointStats {
+
+    final LatencyHistogram latency = new LatencyHistogram();
+    final LongAdder ok = new LongAdder();
+    final LongAdder httpErrors = new LongAdder();
+    final LongAdder ioErrors = new LongAdder();
+
+    void record(int status, long nanos) {
+        latency.record(nanos);
+        if (status == 200) {
+            ok.increment();
+        } else {
+            httpErrors.increment();
+        }
+    }
+
+    void recordFailure(long nanos) {
+        latency.record(nanos);
+        ioErrors.increment();
+    }
+}
@@ -0,0 +1,168 @@
+package com.mockapi.transformers.loadtest;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.mockapi.transformers.metrics.LatencyHistogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+/**
+ * Capacity test for the export transaction endpoints.
+ *
+ * Starts an embedded WireMock with this project's extensions, {@code mappings/}
+ * and {@code __files/} (or targets a running server), drives the six endpoints
+ * with a closed loop of client threads for a warm-up and a measured period,
+ * then prints throughput and latency percentiles per endpoint.
+ *
+ * Run with {@code mvn -Ploadtest compile exec:exec -Dloadtest.args="--concurrency=32 --duration=60"}.
+ */
+public final class LoadGenerator {
+
+    private LoadGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadOptions options;
+        try {
+            options = LoadOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        Workload workload = Workload.create(options);
+
+        WireMockServer server = null;
+        String target = options.target;
+        if (target == null) {
+            System.setProperty("mockapi.root", options.root.toString());
+            server = new WireMockServer(options()
+                    .port(options.port)
+                    .usingFilesUnderDirectory(options.root.toString())
+                    .extensionScanningEnabled(true)
+                    .containerThreads(Math.max(options.concurrency + 10, 25))
+                    .asynchronousResponseEnabled(true)
+                    .disableRequestJournal());
+            server.start();
+            target = "http://localhost:" + server.port();
+            System.out.println("Embedded WireMock on " + target);
+        }
+
+        try {
+            List<EndpointStats> stats = run(options, workload, target);
+            report(workload, stats, options.durationSeconds);
+        } finally {
+            if (server != null) {
+                server.stop();
+            }
+        }
+        System.exit(0);
+    }
+
+    // ---------- Load Loop ----------
+
+    private static List<EndpointStats> run(LoadOptions options, Workload workload, String target)
+            throws InterruptedException {
+
+        Workload.Endpoint[] endpoints = workload.endpoints();
+        URI[] uris = new URI[endpoints.length];
+        List<EndpointStats> stats = new ArrayList<>();
+        for (int i = 0; i < endpoints.length; i++) {
+            uris[i] = URI.create(target + endpoints[i].path());
+            stats.add(new EndpointStats());
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(2, options.concurrency / 4)))
+                .build();
+
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(options.warmupSeconds);
+        long measureUntil = measureFrom + TimeUnit.SECONDS.toNanos(options.durationSeconds);
+
+        System.out.printf(Locale.ROOT, "Warming up %ds, measuring %ds with %d clients%n",
+                options.warmupSeconds, options.durationSeconds, options.concurrency);
+
+        ExecutorService clients = Executors.newFixedThreadPool(options.concurrency);
+        for (int c = 0; c < options.concurrency; c++) {
+            clients.execute(() -> {
+                long now;
+                while ((now = System.nanoTime()) < measureUntil) {
+                    int endpoint = workload.nextEndpoint();
+                    HttpRequest request = HttpRequest.newBuilder(uris[endpoint])
+                            .timeout(Duration.ofSeconds(30))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofByteArray(workload.nextBody(endpoint)))
+                            .build();
+
+                    boolean measured = now >= measureFrom;
+                    try {
+                        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                        if (measured) {
+                            stats.get(endpoint).record(response.statusCode(), System.nanoTime() - now);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Exception e) {
+                        if (measured) {
+                            stats.get(endpoint).recordFailure(System.nanoTime() - now);
+                        }
+                    }
+                }
+            });
+        }
+
+        clients.shutdown();
+        clients.awaitTermination(options.warmupSeconds + options.durationSeconds + 60L, TimeUnit.SECONDS);
+        return stats;
+    }
+
+    // ---------- Report ----------
+
+    private static void report(Workload workload, List<EndpointStats> stats, int seconds) {
+        String row = "%-26s %10s %10s %8s %8s %9s %9s %9s %9s%n";
+        System.out.printf(Locale.ROOT, row, "endpoint", "requests", "req/s", "non-200", "io-err",
+                "p50 ms", "p99 ms", "p999 ms", "max ms");
+
+        long totalRequests = 0;
+        Workload.Endpoint[] endpoints = workload.endpoints();
+        for (int i = 0; i < endpoints.length; i++) {
+            EndpointStats endpoint = stats.get(i);
+            LatencyHistogram.Snapshot latency = endpoint.latency.snapshot();
+            totalRequests += latency.getCount();
+
+            System.out.printf(Locale.ROOT, row,
+                    endpoints[i].service(),
+                    latency.getCount(),
+                    String.format(Locale.ROOT, "%.1f", (double) latency.getCount() / seconds),
+                    endpoint.httpErrors.sum(),
+                    endpoint.ioErrors.sum(),
+                    millis(latency.percentile(50)),
+                    millis(latency.percentile(99)),
+                    millis(latency.percentile(99.9)),
+                    millis(latency.getMaxNanos()));
+        }
+
+        System.out.printf(Locale.ROOT, "%-26s %10d %10.1f%n", "total", totalRequests, (double) totalRequests / seconds);
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1e6);
+    }
+}
@@ -0,0 +1,95 @@
+package com.mockapi.transformers.loadtest;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Command line options of the {@link LoadGenerator}, given as {@code --name=value}.
+ */
+final class LoadOptions {
+
+    static final String[] SERVICES = {
+            "efirc-issuance",
+            "efirc-adjustment",
+            "irm-adjustment",
+            "irm-extension",
+            "shipping-bill-adjustment",
+            "shipping-bill-extension"
+    };
+
+    static final String USAGE = String.join("\n",
+            "Options (all optional):",
+            "  --target=http://host:port   drive a running server instead of an embedded WireMock",
+            "  --port=0                    embedded WireMock port (0 = any free port)",
+            "  --root=.                    WireMock root with mappings/ and __files/",
+            "  --concurrency=16            client threads, each sending back to back",
+            "  --warmup=5                  seconds before measuring",
+            "  --duration=30               measured seconds",
+            "  --mix=efirc-issuance=2,...  request weight per service (default: equal)",
+            "  --invalid=0.1               share of generated requests that fail validation",
+            "  --replay=<dir>              replay <service>*.json bodies instead of generated ones");
+
+    String target;
+    int port = 0;
+    Path root = Paths.get(".");
+    int concurrency = 16;
+    int warmupSeconds = 5;
+    int durationSeconds = 30;
+    final Map<String, Integer> mix = new LinkedHashMap<>();
+    double invalidRatio = 0.1;
+    Path replay;
+
+    static LoadOptions parse(String[] args) {
+        LoadOptions options = new LoadOptions();
+        for (String service : SERVICES) {
+            options.mix.put(service, 1);
+        }
+
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("Unrecognised argument: " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+
+            switch (name) {
+                case "target":
+                    options.target = value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+                    break;
+                case "port":
+                    options.port = Integer.parseInt(value);
+                    break;
+                case "root":
+                    options.root = Paths.get(value);
+                    break;
+                case "concurrency":
+                    options.concurrency = Integer.parseInt(value);
+                    break;
+                case "warmup":
+                    options.warmupSeconds = Integer.parseInt(value);
+                    break;
+                case "duration":
+                    options.durationSeconds = Integer.parseInt(value);
+                    break;
+                case "mix":
+                    options.mix.clear();
+                    for (String entry : value.split(",")) {
+                        String[] weight = entry.split("=");
+                        options.mix.put(weight[0].trim(), weight.length > 1 ? Integer.parseInt(weight[1].trim()) : 1);
+                    }
+                    break;
+                case "invalid":
+                    options.invalidRatio = Double.parseDouble(value);
+                    break;
+                case "replay":
+                    options.replay = Paths.get(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option --" + name);
+            }
+        }
+        return options;
+    }
+}
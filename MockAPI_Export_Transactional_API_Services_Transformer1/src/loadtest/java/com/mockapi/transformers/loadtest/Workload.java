@@ -0,0 +1,176 @@
+package com.mockapi.transformers.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Weighted request mix over the endpoints, with the bodies each endpoint sends.
+ *
+ * Generated bodies come from {@code payloads/<service>.json} and
+ * {@code payloads/<service>-invalid.json} on the classpath, with
+ * {@code ${requestId}} replaced by a unique id per request. Replayed bodies are
+ * sent unchanged, picked at random from the files of the replay directory
+ * whose names start with the service name.
+ */
+final class Workload {
+
+    static final String BASE_PATH = "/trracsapiserv/bankname/apiservices/export-transaction-api-serv/";
+
+    private static final String REQUEST_ID = "${requestId}";
+
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeight;
+    private final AtomicLong requestIds = new AtomicLong();
+
+    private Workload(List<Endpoint> endpoints, List<Integer> weights) {
+        this.endpoints = endpoints.toArray(new Endpoint[0]);
+        this.cumulativeWeight = new int[weights.size()];
+        int total = 0;
+        for (int i = 0; i < weights.size(); i++) {
+            total += weights.get(i);
+            cumulativeWeight[i] = total;
+        }
+    }
+
+    static Workload create(LoadOptions options) throws IOException {
+        List<Endpoint> endpoints = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+
+        for (Map.Entry<String, Integer> entry : options.mix.entrySet()) {
+            if (entry.getValue() <= 0) {
+                continue;
+            }
+            String service = entry.getKey();
+            Endpoint endpoint = options.replay != null
+                    ? Endpoint.replayed(service, options.replay)
+                    : Endpoint.generated(service, options.invalidRatio);
+            endpoints.add(endpoint);
+            weights.add(entry.getValue());
+        }
+
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("Request mix is empty");
+        }
+        return new Workload(endpoints, weights);
+    }
+
+    Endpoint[] endpoints() {
+        return endpoints;
+    }
+
+    /** Index of the next endpoint to call, drawn by weight. */
+    int nextEndpoint() {
+        int draw = ThreadLocalRandom.current().nextInt(cumulativeWeight[cumulativeWeight.length - 1]);
+        for (int i = 0; i < cumulativeWeight.length; i++) {
+            if (draw < cumulativeWeight[i]) {
+                return i;
+            }
+        }
+        return cumulativeWeight.length - 1;
+    }
+
+    byte[] nextBody(int endpoint) {
+        return endpoints[endpoint].nextBody(requestIds);
+    }
+
+    // ---------- Endpoint ----------
+
+    static final class Endpoint {
+
+        private final String service;
+        private final List<byte[][]> validBodies;
+        private final List<byte[][]> invalidBodies;
+        private final double invalidRatio;
+
+        private Endpoint(String service, List<byte[][]> validBodies, List<byte[][]> invalidBodies, double invalidRatio) {
+            this.service = service;
+            this.validBodies = validBodies;
+            this.invalidBodies = invalidBodies;
+            this.invalidRatio = invalidBodies.isEmpty() ? 0 : invalidRatio;
+        }
+
+        static Endpoint generated(String service, double invalidRatio) throws IOException {
+            List<byte[][]> valid = new ArrayList<>();
+            List<byte[][]> invalid = new ArrayList<>();
+            valid.add(split(resource("payloads/" + service + ".json")));
+            byte[] invalidSeed = optionalResource("payloads/" + service + "-invalid.json");
+            if (invalidSeed != null) {
+                invalid.add(split(invalidSeed));
+            }
+            return new Endpoint(service, valid, invalid, invalidRatio);
+        }
+
+        static Endpoint replayed(String service, Path directory) throws IOException {
+            List<byte[][]> bodies = new ArrayList<>();
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, service + "*.json")) {
+                for (Path file : files) {
+                    bodies.add(new byte[][]{Files.readAllBytes(file)});
+                }
+            }
+            if (bodies.isEmpty()) {
+                throw new IllegalArgumentException("No " + service + "*.json files in " + directory);
+            }
+            return new Endpoint(service, bodies, new ArrayList<>(), 0);
+        }
+
+        String service() {
+            return service;
+        }
+
+        String path() {
+            return BASE_PATH + service;
+        }
+
+        byte[] nextBody(AtomicLong requestIds) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            List<byte[][]> bodies = random.nextDouble() < invalidRatio ? invalidBodies : validBodies;
+            byte[][] body = bodies.get(random.nextInt(bodies.size()));
+
+            if (body.length == 1) {
+                return body[0];
+            }
+            byte[] id = ("LOAD-" + requestIds.incrementAndGet()).getBytes(StandardCharsets.US_ASCII);
+            byte[] out = new byte[body[0].length + id.length + body[1].length];
+            System.arraycopy(body[0], 0, out, 0, body[0].length);
+            System.arraycopy(id, 0, out, body[0].length, id.length);
+            System.arraycopy(body[1], 0, out, body[0].length + id.length, body[1].length);
+            return out;
+        }
+
+        /** Body split around the request id placeholder, or whole if it has none. */
+        private static byte[][] split(byte[] body) {
+            String text = new String(body, StandardCharsets.UTF_8);
+            int at = text.indexOf(REQUEST_ID);
+            if (at < 0) {
+                return new byte[][]{body};
+            }
+            return new byte[][]{
+                    text.substring(0, at).getBytes(StandardCharsets.UTF_8),
+                    text.substring(at + REQUEST_ID.length()).getBytes(StandardCharsets.UTF_8)
+            };
+        }
+
+        private static byte[] resource(String name) throws IOException {
+            byte[] bytes = optionalResource(name);
+            if (bytes == null) {
+                throw new IllegalArgumentException("No payload for service: " + name);
+            }
+            return bytes;
+        }
+
+        private static byte[] optionalResource(String name) throws IOException {
+            try (InputStream in = Workload.class.getClassLoader().getResourceAsStream(name)) {
+                return in == null ? null : in.readAllBytes();
+            }
+        }
+    }
+}
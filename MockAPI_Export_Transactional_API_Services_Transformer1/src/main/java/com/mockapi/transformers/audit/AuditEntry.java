@@ -0,0 +1,76 @@
+package com.mockapi.transformers.audit;
+
+import com.mockapi.transformers.common.FieldValues;
+import com.mockapi.transformers.common.Outcome;
+import com.mockapi.transformers.journal.TransactionJournal;
+import com.mockapi.transformers.metrics.TransformerMetrics;
+import com.mockapi.transformers.timing.PhaseTimer;
+import com.mockapi.transformers.validation.ViolationListener;
+
+/**
+ * Bookkeeping of one transform call: start time, failed rule codes, and on
+ * {@link #finish} the metrics sample, journal record and audit record. The
+ * outcome is also passed on to the call's {@link PhaseTimer}.
+ *
+ * Each thread reuses a single entry (see {@link AuditLog#begin}), so an entry
+ * must not be kept past the transform call that began it.
+ */
+public final class AuditEntry implements ViolationListener {
+
+    private static final TransactionJournal journal = TransactionJournal.getInstance();
+
+    private final StringBuilder codes = new StringBuilder(128);
+    private TransformerMetrics metrics;
+    private long startNanos;
+    boolean recording = true;
+
+    AuditEntry reset(TransformerMetrics metrics) {
+        this.metrics = metrics;
+        this.codes.setLength(0);
+        this.startNanos = System.nanoTime();
+        return this;
+    }
+
+    /** Counts the code for the metrics and keeps it for the audit record. */
+    @Override
+    public void onViolation(String code, String description) {
+        if (recording) {
+            metrics.countError(code);
+        }
+        if (codes.length() > 0) {
+            codes.append(',');
+        }
+        codes.append(code);
+    }
+
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    /** Records the outcome; {@code requestHeader} may be null if the request was never parsed. */
+    public void finish(Outcome outcome, FieldValues requestHeader) {
+        PhaseTimer.describe(outcome, requestHeader);
+        if (!recording) {
+            return;
+        }
+        long elapsed = System.nanoTime() - startNanos;
+        metrics.record(outcome, startNanos);
+        journal.append(metrics.getTransformer(),
+                requestHeader == null ? null : requestHeader.get("request-id"),
+                requestHeader == null ? null : requestHeader.get("service-name"),
+                outcome, codes, elapsed);
+        AuditLog.write(metrics.getTransformer(), requestHeader, outcome, codes, elapsed, null);
+    }
+
+    /** Records an unexpected transformer error. */
+    public void fail(Throwable error) {
+        PhaseTimer.describe(Outcome.ERROR, null);
+        if (!recording) {
+            return;
+        }
+        long elapsed = System.nanoTime() - startNanos;
+        metrics.record(Outcome.ERROR, startNanos);
+        journal.append(metrics.getTransformer(), null, null, Outcome.ERROR, codes, elapsed);
+        AuditLog.write(metrics.getTransformer(), null, Outcome.ERROR, codes, elapsed, error);
+    }
+}
@@ -0,0 +1,80 @@
+package com.mockapi.transformers.audit;
+
+import com.mockapi.transformers.common.FieldValues;
+import com.mockapi.transformers.common.Outcome;
+import com.mockapi.transformers.metrics.TransformerMetrics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.util.Unbox;
+
+/**
+ * Structured audit trail of transformer decisions, written to the
+ * {@code mockapi.audit} logger (an async logger with a rolling file appender,
+ * see {@code log4j2.xml}).
+ *
+ * One line per transform: transformer, request id, service name, outcome,
+ * failed rule codes and elapsed microseconds. Successful transforms are always
+ * logged; fail, 413 and 500 records are sampled at
+ * {@code -Dmockapi.audit.errorsPerSecond} (default 100) so a burst of bad
+ * requests cannot flood the ring buffer.
+ */
+public final class AuditLog {
+
+    private static final Logger audit = LogManager.getLogger("mockapi.audit");
+
+    private static final ErrorSampler errorSampler =
+            new ErrorSampler(Integer.getInteger("mockapi.audit.errorsPerSecond", 100));
+
+    private static final ThreadLocal<AuditEntry> entries =
+            ThreadLocal.withInitial(AuditEntry::new);
+
+    private AuditLog() {
+    }
+
+    /** Starts the calling thread's entry for a transform call. */
+    public static AuditEntry begin(TransformerMetrics metrics) {
+        return entries.get().reset(metrics);
+    }
+
+    /**
+     * Stops or resumes recording the calling thread's transforms in the
+     * metrics, journal and audit log; used by the start-up warm-up.
+     */
+    public static void setRecording(boolean recording) {
+        entries.get().recording = recording;
+    }
+
+    static void write(String transformer,
+                      FieldValues requestHeader,
+                      Outcome outcome,
+                      CharSequence codes,
+                      long elapsedNanos,
+                      Throwable error) {
+
+        if (!audit.isInfoEnabled()) {
+            return;
+        }
+
+        if (outcome != Outcome.SUCCESS) {
+            if (!errorSampler.tryAcquire(System.nanoTime())) {
+                return;
+            }
+            long suppressed = errorSampler.drainSuppressed();
+            if (suppressed > 0) {
+                audit.info("sampling dropped={} error-path records", Unbox.box(suppressed));
+            }
+        }
+
+        String requestId = requestHeader == null ? "-" : requestHeader.text("request-id");
+        String service = requestHeader == null ? "-" : requestHeader.text("service-name");
+        long micros = elapsedNanos / 1000;
+
+        if (error == null) {
+            audit.info("transformer={} requestId={} service={} outcome={} codes={} micros={}",
+                    transformer, requestId, service, outcome.label(), codes, Unbox.box(micros));
+        } else {
+            audit.error("transformer={} requestId={} service={} outcome={} codes={} micros={}",
+                    transformer, requestId, service, outcome.label(), codes, Unbox.box(micros), error);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.mockapi.transformers.audit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fixed one-second window rate limiter for error-path audit records.
+ * Records over the limit are only counted; the count is handed to the first
+ * record of a later window.
+ */
+final class ErrorSampler {
+
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+
+    private final int perSecond;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger used = new AtomicInteger();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    ErrorSampler(int perSecond) {
+        this.perSecond = perSecond;
+    }
+
+    /** True when the record may be written. */
+    boolean tryAcquire(long now) {
+        long start = windowStart.get();
+        if (now - start >= WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+            used.set(0);
+        }
+        if (used.incrementAndGet() <= perSecond) {
+            return true;
+        }
+        suppressed.incrementAndGet();
+        return false;
+    }
+
+    /** Records dropped since the last call. */
+    long drainSuppressed() {
+        return suppressed.get() == 0 ? 0 : suppressed.getAndSet(0);
+    }
+}
@@ -0,0 +1,237 @@
+package com.mockapi.transformers.common;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A response template split once into static byte segments around the
+ * values of its {@link TemplateSlot} fields.
+ *
+ * Rendering writes the segments and the JSON-escaped slot values straight into
+ * the thread's {@link ResponseBuffer}; no tree is parsed or serialized per request.
+ *
+ * Generated slots ({@code response-id}, {@code response-time}, {@code processDate},
+ * {@code referenceNo}) are rewritten on every render in the shape of the template's
+ * own value, unless {@code -Dmockapi.dynamicFields=false}.
+ */
+public final class CompiledTemplate {
+
+    private static final JsonFactory factory = Json.factory();
+
+    private static final boolean DYNAMIC_FIELDS =
+            Boolean.parseBoolean(System.getProperty("mockapi.dynamicFields", "true"));
+
+    private static final String UUID = "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}";
+
+    // "api-<uuid>"
+    private static final Pattern RESPONSE_ID = Pattern.compile("\"(.*)" + UUID + "\"");
+
+    // "APIPROCESS<ddMMyyyy>_EFIRC_ADJUSTMENT_<uuid>"
+    private static final Pattern REFERENCE_NO = Pattern.compile("\"(\\D*)\\d{8}(.*)" + UUID + "\"");
+
+    private final byte[] source;
+    // segment i precedes the value of slots[i]; the extra last segment closes the document
+    private final int[] segmentStart;
+    private final int[] segmentEnd;
+    private final TemplateSlot[] slots;
+    // generated slots: template text before the fresh part ("api-", "APIPROCESS"), null to keep the value
+    private final byte[][] lead;
+    // reference numbers: template text between the date and the UUID
+    private final byte[][] infix;
+    private final boolean[] present = new boolean[TemplateSlot.count()];
+
+    private CompiledTemplate(byte[] source, int[] segmentStart, int[] segmentEnd, TemplateSlot[] slots) {
+        this.source = source;
+        this.segmentStart = segmentStart;
+        this.segmentEnd = segmentEnd;
+        this.slots = slots;
+        this.lead = new byte[slots.length][];
+        this.infix = new byte[slots.length][];
+        for (int i = 0; i < slots.length; i++) {
+            present[slots[i].ordinal()] = true;
+            if (DYNAMIC_FIELDS && slots[i].isGenerated()) {
+                splitGenerated(i);
+            }
+        }
+    }
+
+    public static CompiledTemplate compile(byte[] json) {
+        List<TemplateSlot> slots = new ArrayList<>();
+        List<int[]> valueRanges = new ArrayList<>();
+
+        try (JsonParser parser = factory.createParser(json)) {
+            int depth = 0;
+            JsonToken token;
+
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                    depth++;
+                } else if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+                    depth--;
+                } else if (token == JsonToken.FIELD_NAME && depth == 2) {
+                    TemplateSlot slot = TemplateSlot.forField(parser.currentName());
+                    JsonToken value = parser.nextToken();
+
+                    if (slot != null && value.isScalarValue()) {
+                        int start = (int) parser.currentTokenLocation().getByteOffset();
+                        slots.add(slot);
+                        valueRanges.add(new int[]{start, valueEnd(json, start)});
+                    } else if (slot != null && value.isStructStart()) {
+                        int start = (int) parser.currentTokenLocation().getByteOffset();
+                        parser.skipChildren();
+                        slots.add(slot);
+                        valueRanges.add(new int[]{start, (int) parser.currentLocation().getByteOffset()});
+                    } else if (value.isStructStart()) {
+                        depth++;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // Not valid JSON: serve the file as-is without slots
+            return new CompiledTemplate(json, new int[]{0}, new int[]{json.length}, new TemplateSlot[0]);
+        }
+
+        int n = slots.size();
+        int[] segmentStart = new int[n + 1];
+        int[] segmentEnd = new int[n + 1];
+
+        int position = 0;
+        for (int i = 0; i < n; i++) {
+            segmentStart[i] = position;
+            segmentEnd[i] = valueRanges.get(i)[0];
+            position = valueRanges.get(i)[1];
+        }
+        segmentStart[n] = position;
+        segmentEnd[n] = json.length;
+
+        return new CompiledTemplate(json, segmentStart, segmentEnd, slots.toArray(new TemplateSlot[0]));
+    }
+
+    public boolean hasSlot(TemplateSlot slot) {
+        return present[slot.ordinal()];
+    }
+
+    /** Renders the template into the calling thread's buffer and returns the bytes. */
+    public byte[] render(TemplateValues values) {
+        if (slots.length == 0) {
+            return source;
+        }
+        return renderTo(ResponseBuffer.local(), values).toByteArray();
+    }
+
+    public ResponseBuffer renderTo(ResponseBuffer out, TemplateValues values) {
+        ResponseClock.Tick now = null;
+
+        for (int i = 0; i < slots.length; i++) {
+            out.write(source, segmentStart[i], segmentEnd[i] - segmentStart[i]);
+
+            JsonFragment fragment = values.fragment(slots[i]);
+            String value = values.get(slots[i]);
+            if (fragment != null) {
+                fragment.writeTo(out);
+            } else if (value != null) {
+                out.writeJsonString(value);
+            } else if (lead[i] != null) {
+                if (now == null) {
+                    now = ResponseClock.now();
+                }
+                writeGenerated(out, i, now);
+            } else {
+                // keep the value from the template file
+                out.write(source, segmentEnd[i], segmentStart[i + 1] - segmentEnd[i]);
+            }
+        }
+
+        int last = slots.length;
+        out.write(source, segmentStart[last], segmentEnd[last] - segmentStart[last]);
+        return out;
+    }
+
+    // ---------- Generated Slots ----------
+
+    private void splitGenerated(int i) {
+        int start = segmentEnd[i];
+        int end = segmentStart[i + 1];
+        if (source[start] != '"') {
+            return;
+        }
+        String value = new String(source, start, end - start, StandardCharsets.UTF_8);
+
+        switch (slots[i]) {
+            case RESPONSE_ID: {
+                Matcher m = RESPONSE_ID.matcher(value);
+                if (m.matches()) {
+                    lead[i] = bytes(m.group(1));
+                }
+                break;
+            }
+            case REFERENCE_NO: {
+                Matcher m = REFERENCE_NO.matcher(value);
+                if (m.matches()) {
+                    lead[i] = bytes(m.group(1));
+                    infix[i] = bytes(m.group(2));
+                }
+                break;
+            }
+            default:
+                lead[i] = new byte[0];
+        }
+    }
+
+    private void writeGenerated(ResponseBuffer out, int i, ResponseClock.Tick now) {
+        out.write((byte) '"').write(lead[i]);
+
+        switch (slots[i]) {
+            case RESPONSE_ID:
+                out.writeRandomUuid();
+                break;
+            case RESPONSE_TIME:
+                out.write(now.responseTime);
+                break;
+            case PROCESS_DATE:
+                out.write(now.processDate);
+                break;
+            case REFERENCE_NO:
+                out.write(now.referenceDate).write(infix[i]).writeRandomUuid();
+                break;
+            default:
+                break;
+        }
+
+        out.write((byte) '"');
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // ---------- Helpers ----------
+
+    private static int valueEnd(byte[] json, int start) {
+        if (json[start] == '"') {
+            int i = start + 1;
+            while (i < json.length && json[i] != '"') {
+                i += json[i] == '\\' ? 2 : 1;
+            }
+            return Math.min(i + 1, json.length);
+        }
+
+        int i = start;
+        while (i < json.length) {
+            byte b = json[i];
+            if (b == ',' || b == '}' || b == ']' || b == ' ' || b == '\t' || b == '\r' || b == '\n') {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+}
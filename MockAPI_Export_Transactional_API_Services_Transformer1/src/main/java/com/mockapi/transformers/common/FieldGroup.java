@@ -0,0 +1,36 @@
+package com.mockapi.transformers.common;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fixed, ordered set of JSON field names resolved to array slots once at
+ * startup, so parsed values can be kept in a flat {@code String[]}.
+ */
+public final class FieldGroup {
+
+    private final String[] names;
+    private final Map<String, Integer> slots;
+
+    public FieldGroup(String... names) {
+        this.names = names.clone();
+        this.slots = new HashMap<>(names.length * 2);
+        for (int i = 0; i < names.length; i++) {
+            slots.putIfAbsent(names[i], i);
+        }
+    }
+
+    /** Slot of the given field, or -1 when the field is not part of the group. */
+    public int slot(String name) {
+        Integer slot = slots.get(name);
+        return slot == null ? -1 : slot;
+    }
+
+    public String name(int slot) {
+        return names[slot];
+    }
+
+    public int size() {
+        return names.length;
+    }
+}
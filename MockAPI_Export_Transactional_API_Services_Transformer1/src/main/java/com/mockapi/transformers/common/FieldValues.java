@@ -0,0 +1,44 @@
+package com.mockapi.transformers.common;
+
+/**
+ * Scalar values picked out of one JSON object for the fields of a {@link FieldGroup}.
+ * Absent fields and JSON {@code null} are both {@code null}; objects and arrays
+ * are reported as an empty string, the same as {@code JsonNode.asText()}.
+ */
+public final class FieldValues {
+
+    private final FieldGroup group;
+    private final String[] values;
+
+    FieldValues(FieldGroup group) {
+        this.group = group;
+        this.values = new String[group.size()];
+    }
+
+    public String get(String field) {
+        int slot = group.slot(field);
+        return slot < 0 ? null : values[slot];
+    }
+
+    public String get(int slot) {
+        return values[slot];
+    }
+
+    /** Value of the field, or an empty string when it is absent. */
+    public String text(String field) {
+        String value = get(field);
+        return value == null ? "" : value;
+    }
+
+    public boolean has(String field) {
+        return get(field) != null;
+    }
+
+    public FieldGroup getGroup() {
+        return group;
+    }
+
+    void set(int slot, String value) {
+        values[slot] = value;
+    }
+}
@@ -0,0 +1,159 @@
+package com.mockapi.transformers.common;
+
+import com.github.tomakehurst.wiremock.http.Request;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Gzip encoding of response bodies with pooled {@link Deflater}s.
+ *
+ * A deflater holds a few hundred KiB of native memory, so instead of one per
+ * Jetty thread a bounded pool ({@code -Dmockapi.gzip.pool}, default twice the
+ * CPU count) is shared; encoders beyond the pool are released after use.
+ *
+ * Bodies are compressed when the request accepts gzip and the body is at least
+ * {@code -Dmockapi.gzip.minBytes} (default 256) long, at
+ * {@code -Dmockapi.gzip.level} (default 1, fastest). Start with
+ * {@code -Dmockapi.gzip.enabled=false} to always send plain bodies.
+ */
+public final class GzipEncoder {
+
+    private static final boolean ENABLED =
+            Boolean.parseBoolean(System.getProperty("mockapi.gzip.enabled", "true"));
+
+    private static final int MAX_RETAINED_CAPACITY = 256 * 1024;
+
+    private static final int MIN_BYTES = Integer.getInteger("mockapi.gzip.minBytes", 256);
+
+    private static final int LEVEL = Integer.getInteger("mockapi.gzip.level", Deflater.BEST_SPEED);
+
+    private static final BlockingQueue<GzipEncoder> pool = new ArrayBlockingQueue<>(
+            Math.max(1, Integer.getInteger("mockapi.gzip.pool", 2 * Runtime.getRuntime().availableProcessors())));
+
+    // magic, deflate, no flags, no mtime, no extra flags, unknown OS
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final int TRAILER_LENGTH = 8;
+
+    private final Deflater deflater = new Deflater(LEVEL, true);
+    private final CRC32 crc = new CRC32();
+    private byte[] out = new byte[8192];
+
+    private GzipEncoder() {
+    }
+
+    /** Whether a body of {@code length} bytes should be sent gzip-encoded to {@code request}. */
+    public static boolean shouldCompress(Request request, int length) {
+        return ENABLED && length >= MIN_BYTES && acceptsGzip(request.getHeader("Accept-Encoding"));
+    }
+
+    /** Gzip member of {@code body}, in a new array of the exact length. */
+    public static byte[] gzip(byte[] body) {
+        GzipEncoder encoder = pool.poll();
+        if (encoder == null) {
+            encoder = new GzipEncoder();
+        }
+        try {
+            return encoder.encode(body);
+        } finally {
+            encoder.deflater.reset();
+            encoder.crc.reset();
+            if (encoder.out.length > MAX_RETAINED_CAPACITY) {
+                encoder.out = new byte[8192];
+            }
+            if (!pool.offer(encoder)) {
+                encoder.deflater.end();
+            }
+        }
+    }
+
+    // ---------- Encoding ----------
+
+    private byte[] encode(byte[] body) {
+        System.arraycopy(HEADER, 0, out, 0, HEADER.length);
+        int count = HEADER.length;
+
+        deflater.setInput(body);
+        deflater.finish();
+        while (!deflater.finished()) {
+            if (count == out.length) {
+                out = Arrays.copyOf(out, out.length * 2);
+            }
+            count += deflater.deflate(out, count, out.length - count);
+        }
+
+        crc.update(body, 0, body.length);
+        if (count + TRAILER_LENGTH > out.length) {
+            out = Arrays.copyOf(out, count + TRAILER_LENGTH);
+        }
+        count = writeIntLE(out, count, (int) crc.getValue());
+        count = writeIntLE(out, count, body.length);
+
+        return Arrays.copyOf(out, count);
+    }
+
+    private static int writeIntLE(byte[] buf, int offset, int value) {
+        buf[offset] = (byte) value;
+        buf[offset + 1] = (byte) (value >>> 8);
+        buf[offset + 2] = (byte) (value >>> 16);
+        buf[offset + 3] = (byte) (value >>> 24);
+        return offset + 4;
+    }
+
+    // ---------- Accept-Encoding ----------
+
+    /**
+     * True if {@code gzip} is listed without {@code q=0}, or if it is not listed
+     * and {@code *} is, without {@code q=0}. An explicit {@code gzip;q=0} refuses
+     * gzip whatever {@code *} says.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        int length = acceptEncoding.length();
+        int start = 0;
+        boolean any = false;
+
+        while (start < length) {
+            int end = acceptEncoding.indexOf(',', start);
+            if (end < 0) {
+                end = length;
+            }
+            int params = acceptEncoding.indexOf(';', start);
+            int nameEnd = params >= 0 && params < end ? params : end;
+
+            int from = start;
+            int to = nameEnd;
+            while (from < to && acceptEncoding.charAt(from) <= ' ') from++;
+            while (to > from && acceptEncoding.charAt(to - 1) <= ' ') to--;
+
+            if (to - from == 4 && acceptEncoding.regionMatches(true, from, "gzip", 0, 4)) {
+                return !zeroQuality(acceptEncoding, nameEnd, end);
+            }
+            if (to - from == 1 && acceptEncoding.charAt(from) == '*') {
+                any = !zeroQuality(acceptEncoding, nameEnd, end);
+            }
+            start = end + 1;
+        }
+        return any;
+    }
+
+    /** Whether the parameters in {@code [from, to)} contain {@code q=0}, {@code q=0.0}, ... */
+    private static boolean zeroQuality(String value, int from, int to) {
+        int q = value.indexOf("q=", from);
+        if (q < 0 || q >= to) {
+            return false;
+        }
+        for (int i = q + 2; i < to; i++) {
+            char c = value.charAt(i);
+            if (c != '0' && c != '.' && c > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
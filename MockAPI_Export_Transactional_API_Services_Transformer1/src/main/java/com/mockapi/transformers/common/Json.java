@@ -0,0 +1,39 @@
+package com.mockapi.transformers.common;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * The one configured Jackson mapper, shared as thread-safe readers, writers
+ * and a streaming factory instead of a mapper per class.
+ */
+public final class Json {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static final ObjectReader reader = mapper.reader();
+
+    private static final ObjectWriter writer = mapper.writer();
+
+    private Json() {
+    }
+
+    public static JsonFactory factory() {
+        return mapper.getFactory();
+    }
+
+    public static ObjectReader reader() {
+        return reader;
+    }
+
+    public static ObjectWriter writer() {
+        return writer;
+    }
+
+    public static ObjectNode object() {
+        return mapper.createObjectNode();
+    }
+}
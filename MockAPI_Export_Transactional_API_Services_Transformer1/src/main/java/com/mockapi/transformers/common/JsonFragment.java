@@ -0,0 +1,11 @@
+package com.mockapi.transformers.common;
+
+/**
+ * A JSON value (object or array) written straight into a response in place
+ * of a structured {@link TemplateSlot}.
+ */
+@FunctionalInterface
+public interface JsonFragment {
+
+    void writeTo(ResponseBuffer out);
+}
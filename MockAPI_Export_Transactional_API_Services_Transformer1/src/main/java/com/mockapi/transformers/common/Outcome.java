@@ -0,0 +1,31 @@
+package com.mockapi.transformers.common;
+
+/**
+ * How a transformer answered a request.
+ */
+public enum Outcome {
+
+    /** Validation passed, success template returned. */
+    SUCCESS,
+
+    /** Validation failed, fail template returned. */
+    FAIL,
+
+    /** Request refused before validation, e.g. body too large (413). */
+    REJECTED,
+
+    /** Unexpected transformer error (500). */
+    ERROR,
+
+    /** Retried request-id answered from the replay cache. */
+    REPLAYED,
+
+    /** Error or fault injected by the mapping's response shaping. */
+    INJECTED;
+
+    private final String label = name().toLowerCase();
+
+    public String label() {
+        return label;
+    }
+}
@@ -0,0 +1,51 @@
+package com.mockapi.transformers.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The subset of a request body described by a {@link RequestSchema}.
+ */
+public final class ParsedRequest {
+
+    private final FieldValues header;
+    private final FieldValues input;
+    private List<FieldValues> items = Collections.emptyList();
+    private boolean itemsPresent;
+
+    ParsedRequest(RequestSchema schema) {
+        this.header = new FieldValues(RequestSchema.HEADER_FIELDS);
+        this.input = new FieldValues(schema.getInputFields());
+    }
+
+    public FieldValues header() {
+        return header;
+    }
+
+    public FieldValues input() {
+        return input;
+    }
+
+    /** Elements of the schema's repeated array, in request order. */
+    public List<FieldValues> items() {
+        return items;
+    }
+
+    /** Whether the repeated array was present as a JSON array. */
+    public boolean hasItems() {
+        return itemsPresent;
+    }
+
+    void addItem(FieldValues item) {
+        markItemsPresent();
+        items.add(item);
+    }
+
+    void markItemsPresent() {
+        if (!itemsPresent) {
+            items = new ArrayList<>();
+            itemsPresent = true;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.mockapi.transformers.common;
+
+import java.io.IOException;
+
+public class RequestBodyTooLargeException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int limit;
+
+    public RequestBodyTooLargeException(int size, int limit) {
+        super("Request body of " + size + " bytes exceeds the limit of " + limit + " bytes");
+        this.limit = limit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,43 @@
+package com.mockapi.transformers.common;
+
+/**
+ * Describes which parts of a request body a service looks at: the standard
+ * {@code request-header} fields, its {@code service-input} fields and,
+ * optionally, the fields of each element of one repeated array such as
+ * {@code invoiceList}. Everything else is skipped by the parser.
+ */
+public final class RequestSchema {
+
+    public static final FieldGroup HEADER_FIELDS = new FieldGroup(
+            "request-id", "service-name", "request-time", "request-source");
+
+    private final FieldGroup inputFields;
+    private final String itemsField;
+    private final FieldGroup itemFields;
+
+    private RequestSchema(FieldGroup inputFields, String itemsField, FieldGroup itemFields) {
+        this.inputFields = inputFields;
+        this.itemsField = itemsField;
+        this.itemFields = itemFields;
+    }
+
+    public static RequestSchema of(String... inputFields) {
+        return new RequestSchema(new FieldGroup(inputFields), null, null);
+    }
+
+    public RequestSchema withItems(String arrayField, String... fields) {
+        return new RequestSchema(inputFields, arrayField, new FieldGroup(fields));
+    }
+
+    public FieldGroup getInputFields() {
+        return inputFields;
+    }
+
+    public String getItemsField() {
+        return itemsField;
+    }
+
+    public FieldGroup getItemFields() {
+        return itemFields;
+    }
+}
@@ -0,0 +1,86 @@
+package com.mockapi.transformers.common;
+
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.http.Request;
+
+import java.io.IOException;
+
+/**
+ * The parsed forms of the request body being served on the calling thread.
+ *
+ * WireMock matches and transforms a serve event on one thread, so custom
+ * matchers, the router, the replay cache and the service handlers all read the
+ * body through this scope and it is parsed once per request. WireMock hands each
+ * phase its own copy of the request, but the copies share one body array, so the
+ * scope is keyed by that array's identity: a different array replaces the
+ * scope's contents. {@link RequestScopeListener} clears the scope before each
+ * serve event is matched and after its response is sent, so idle threads keep
+ * no body alive.
+ */
+public final class RequestScope {
+
+    private static final ThreadLocal<RequestScope> local =
+            ThreadLocal.withInitial(RequestScope::new);
+
+    private byte[] body;
+    private FieldValues header;
+    private RequestSchema schema;
+    private ParsedRequest parsed;
+
+    private RequestScope() {
+    }
+
+    /** The request's {@code request-header} and the schema's fields. */
+    public static ParsedRequest parse(Request request,
+                                      RequestSchema schema,
+                                      Parameters parameters) throws IOException {
+
+        int maxBodyBytes = StreamingRequestParser.maxBodyBytes(parameters);
+        RequestScope scope = local.get().bind(request.getBody(), maxBodyBytes);
+
+        if (scope.parsed == null || scope.schema != schema) {
+            scope.parsed = StreamingRequestParser.parse(scope.body, schema, maxBodyBytes);
+            scope.schema = schema;
+        }
+        return scope.parsed;
+    }
+
+    /** Only the request's {@code request-header}. */
+    public static FieldValues header(Request request, Parameters parameters) throws IOException {
+        int maxBodyBytes = StreamingRequestParser.maxBodyBytes(parameters);
+        RequestScope scope = local.get().bind(request.getBody(), maxBodyBytes);
+
+        if (scope.parsed != null) {
+            return scope.parsed.header();
+        }
+        if (scope.header == null) {
+            scope.header = StreamingRequestParser.parseHeader(scope.body, maxBodyBytes);
+        }
+        return scope.header;
+    }
+
+    /** Drops the calling thread's body and its parsed forms. */
+    public static void clear() {
+        local.get().reset(null);
+    }
+
+    // ---------- Helpers ----------
+
+    private RequestScope bind(byte[] body, int maxBodyBytes) throws RequestBodyTooLargeException {
+        // limits can differ between the mappings and matchers sharing a body
+        if (body != null && body.length > maxBodyBytes) {
+            throw new RequestBodyTooLargeException(body.length, maxBodyBytes);
+        }
+        if (this.body != body) {
+            reset(body);
+        }
+        return this;
+    }
+
+    private void reset(byte[] body) {
+        this.body = body;
+        this.header = null;
+        this.schema = null;
+        this.parsed = null;
+    }
+}
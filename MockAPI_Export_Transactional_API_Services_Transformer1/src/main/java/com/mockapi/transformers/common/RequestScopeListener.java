@@ -0,0 +1,27 @@
+package com.mockapi.transformers.common;
+
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ServeEventListener;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+
+/**
+ * Starts every serve event with an empty {@link RequestScope} on the serving
+ * thread, and empties it again once the response has been sent.
+ */
+public class RequestScopeListener implements ServeEventListener {
+
+    @Override
+    public String getName() {
+        return "request-scope";
+    }
+
+    @Override
+    public void beforeMatch(ServeEvent serveEvent, Parameters parameters) {
+        RequestScope.clear();
+    }
+
+    @Override
+    public void afterComplete(ServeEvent serveEvent, Parameters parameters) {
+        RequestScope.clear();
+    }
+}
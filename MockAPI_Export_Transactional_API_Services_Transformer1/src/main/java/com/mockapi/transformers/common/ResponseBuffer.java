@@ -0,0 +1,153 @@
+package com.mockapi.transformers.common;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Growable byte buffer that is reused by the thread rendering a response.
+ * Strings are written as JSON string literals, escaped and UTF-8 encoded in
+ * one pass.
+ */
+public final class ResponseBuffer {
+
+    private static final int MAX_RETAINED_CAPACITY = 256 * 1024;
+
+    private static final ThreadLocal<ResponseBuffer> LOCAL =
+            ThreadLocal.withInitial(() -> new ResponseBuffer(4096));
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes();
+
+    private byte[] buf;
+    private int count;
+
+    ResponseBuffer(int capacity) {
+        this.buf = new byte[capacity];
+    }
+
+    /** The calling thread's buffer, emptied. */
+    public static ResponseBuffer local() {
+        ResponseBuffer buffer = LOCAL.get();
+        if (buffer.buf.length > MAX_RETAINED_CAPACITY) {
+            buffer.buf = new byte[4096];
+        }
+        buffer.count = 0;
+        return buffer;
+    }
+
+    public ResponseBuffer write(byte[] bytes) {
+        return write(bytes, 0, bytes.length);
+    }
+
+    public ResponseBuffer write(byte[] bytes, int offset, int length) {
+        ensure(length);
+        System.arraycopy(bytes, offset, buf, count, length);
+        count += length;
+        return this;
+    }
+
+    public ResponseBuffer write(byte b) {
+        ensure(1);
+        buf[count++] = b;
+        return this;
+    }
+
+    /** Writes {@code value} as a quoted, escaped JSON string. */
+    public ResponseBuffer writeJsonString(CharSequence value) {
+        ensure(value.length() + 2);
+        buf[count++] = '"';
+        writeJsonChars(value);
+        ensure(1);
+        buf[count++] = '"';
+        return this;
+    }
+
+    /**
+     * Writes {@code value} escaped for use inside a JSON string, without
+     * quotes, so a string can be assembled from several parts.
+     */
+    public ResponseBuffer writeJsonChars(CharSequence value) {
+        int length = value.length();
+        ensure(length);
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+
+            if (c >= 0x20 && c < 0x80 && c != '"' && c != '\\') {
+                ensure(1);
+                buf[count++] = (byte) c;
+            } else if (c == '"' || c == '\\') {
+                ensure(2);
+                buf[count++] = '\\';
+                buf[count++] = (byte) c;
+            } else if (c < 0x20) {
+                ensure(6);
+                buf[count++] = '\\';
+                buf[count++] = 'u';
+                buf[count++] = '0';
+                buf[count++] = '0';
+                buf[count++] = HEX[c >> 4];
+                buf[count++] = HEX[c & 0xF];
+            } else if (c < 0x800) {
+                ensure(2);
+                buf[count++] = (byte) (0xC0 | (c >> 6));
+                buf[count++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, value.charAt(++i));
+                ensure(4);
+                buf[count++] = (byte) (0xF0 | (cp >> 18));
+                buf[count++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                buf[count++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                buf[count++] = (byte) (0x80 | (cp & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                ensure(1);
+                buf[count++] = '?';
+            } else {
+                ensure(3);
+                buf[count++] = (byte) (0xE0 | (c >> 12));
+                buf[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buf[count++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return this;
+    }
+
+    /** Writes the low {@code digits} nibbles of {@code value} as lowercase hex. */
+    public ResponseBuffer writeHex(long value, int digits) {
+        ensure(digits);
+        for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4) {
+            buf[count++] = HEX[(int) (value >>> shift) & 0xF];
+        }
+        return this;
+    }
+
+    /**
+     * Writes a random (version 4) UUID in its 36 character form. The bits come
+     * from {@link ThreadLocalRandom}: unique enough for response ids, not for secrets.
+     */
+    public ResponseBuffer writeRandomUuid() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long msb = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+        writeHex(msb >>> 32, 8).write((byte) '-');
+        writeHex(msb >>> 16, 4).write((byte) '-');
+        writeHex(msb, 4).write((byte) '-');
+        writeHex(lsb >>> 48, 4).write((byte) '-');
+        return writeHex(lsb, 12);
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buf, count);
+    }
+
+    private void ensure(int extra) {
+        if (count + extra > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(buf.length * 2, count + extra));
+        }
+    }
+}
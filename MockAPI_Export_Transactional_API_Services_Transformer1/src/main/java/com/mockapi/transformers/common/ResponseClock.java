@@ -0,0 +1,80 @@
+package com.mockapi.transformers.common;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Wall clock with its response-header and service-output date strings
+ * formatted at most once per millisecond and shared by all threads.
+ */
+final class ResponseClock {
+
+    private static final ZoneId zone = ZoneId.systemDefault();
+
+    private static volatile Tick current = new Tick(Long.MIN_VALUE);
+
+    private ResponseClock() {
+    }
+
+    static Tick now() {
+        long millis = System.currentTimeMillis();
+        Tick tick = current;
+        if (tick.millis != millis) {
+            // Racing threads format the same millisecond; either result is fine
+            tick = new Tick(millis);
+            current = tick;
+        }
+        return tick;
+    }
+
+    static final class Tick {
+
+        final long millis;
+        /** yyyy-MM-ddTHH:mm:ss.SSS */
+        final byte[] responseTime = new byte[23];
+        /** dd/MM/yyyy */
+        final byte[] processDate = new byte[10];
+        /** ddMMyyyy, as used in reference numbers */
+        final byte[] referenceDate = new byte[8];
+
+        private Tick(long millis) {
+            this.millis = millis;
+            if (millis == Long.MIN_VALUE) {
+                return;
+            }
+            LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), zone);
+
+            digits(responseTime, 0, time.getYear(), 4);
+            responseTime[4] = '-';
+            digits(responseTime, 5, time.getMonthValue(), 2);
+            responseTime[7] = '-';
+            digits(responseTime, 8, time.getDayOfMonth(), 2);
+            responseTime[10] = 'T';
+            digits(responseTime, 11, time.getHour(), 2);
+            responseTime[13] = ':';
+            digits(responseTime, 14, time.getMinute(), 2);
+            responseTime[16] = ':';
+            digits(responseTime, 17, time.getSecond(), 2);
+            responseTime[19] = '.';
+            digits(responseTime, 20, time.getNano() / 1_000_000, 3);
+
+            digits(processDate, 0, time.getDayOfMonth(), 2);
+            processDate[2] = '/';
+            digits(processDate, 3, time.getMonthValue(), 2);
+            processDate[5] = '/';
+            digits(processDate, 6, time.getYear(), 4);
+
+            digits(referenceDate, 0, time.getDayOfMonth(), 2);
+            digits(referenceDate, 2, time.getMonthValue(), 2);
+            digits(referenceDate, 4, time.getYear(), 4);
+        }
+
+        private static void digits(byte[] target, int offset, int value, int width) {
+            for (int i = offset + width - 1; i >= offset; i--) {
+                target[i] = (byte) ('0' + value % 10);
+                value /= 10;
+            }
+        }
+    }
+}
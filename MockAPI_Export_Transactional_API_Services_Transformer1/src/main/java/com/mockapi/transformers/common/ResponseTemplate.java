@@ -0,0 +1,50 @@
+package com.mockapi.transformers.common;
+
+/**
+ * Immutable, pre-encoded response template loaded from {@code __files/}.
+ * The byte array is shared between all requests and must never be modified.
+ * The template is compiled for slot splicing and gzip-encoded when it is loaded.
+ */
+public final class ResponseTemplate {
+
+    private final String name;
+    private final byte[] bytes;
+    private final long lastModified;
+    private final CompiledTemplate compiled;
+    private final byte[] gzipped;
+
+    ResponseTemplate(String name, byte[] bytes, long lastModified) {
+        this.name = name;
+        this.bytes = bytes;
+        this.lastModified = lastModified;
+        this.compiled = CompiledTemplate.compile(bytes);
+        this.gzipped = GzipEncoder.gzip(bytes);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** Shared UTF-8 bytes of the template (not copied). */
+    public byte[] bytes() {
+        return bytes;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /** Shared gzip form of {@link #bytes()}, sent when a render leaves the template unchanged. */
+    public byte[] gzipped() {
+        return gzipped;
+    }
+
+    public CompiledTemplate compiled() {
+        return compiled;
+    }
+
+    /** Template bytes with the given slot values spliced in. */
+    public byte[] render(TemplateValues values) {
+        return compiled.render(values);
+    }
+}
@@ -0,0 +1,263 @@
+package com.mockapi.transformers.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared cache of the response templates in {@code __files/}.
+ *
+ * Every {@code successFile}/{@code failFile}, and every template in a {@code failFiles}
+ * table, referenced from {@code mappings/*.json} is loaded once when the cache is
+ * created. A daemon thread watches {@code __files/} and replaces entries as files
+ * change, so reads never take a lock. Only files already cached or referenced from
+ * a mapping are reloaded; other files in {@code __files/} are left on disk until
+ * they are first requested.
+ *
+ * The WireMock root directory defaults to the working directory and can be
+ * overridden with the {@code mockapi.root} system property.
+ *
+ * An {@link #overlay} serves the files of another directory, such as a bank
+ * profile's {@code __files/}, and falls back to this cache for the rest.
+ */
+public final class ResponseTemplateCache {
+
+    private static final Logger logger =
+            LogManager.getLogger(ResponseTemplateCache.class);
+
+    private static final String[] TEMPLATE_PARAMETERS = {"successFile", "failFile"};
+
+    // error code to template tables
+    private static final String TEMPLATE_TABLE_PARAMETER = "failFiles";
+
+    private static final class Holder {
+        private static final ResponseTemplateCache INSTANCE =
+                new ResponseTemplateCache(Paths.get(System.getProperty("mockapi.root", ".")));
+    }
+
+    public static ResponseTemplateCache getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private final Path filesDir;
+    private final Path mappingsDir;
+    private final ConcurrentHashMap<String, ResponseTemplate> templates = new ConcurrentHashMap<>();
+    // names referenced from the mappings, collected before the watcher starts; reloaded
+    // even after the file was deleted and created again
+    private final Set<String> referenced = new LinkedHashSet<>();
+    // overlays only: the cache asked for files this directory lacks, and those names
+    private final ResponseTemplateCache fallback;
+    private final Set<String> missing = ConcurrentHashMap.newKeySet();
+
+    ResponseTemplateCache(Path rootDir) {
+        this(rootDir, true);
+    }
+
+    /** A cache of {@code rootDir} that only reloads files on {@link #refresh} when {@code watch} is false. */
+    ResponseTemplateCache(Path rootDir, boolean watch) {
+        this.filesDir = rootDir.resolve("__files");
+        this.mappingsDir = rootDir.resolve("mappings");
+        this.fallback = null;
+        preload();
+        if (watch) {
+            startWatcher();
+        }
+    }
+
+    private ResponseTemplateCache(Path filesDir, ResponseTemplateCache fallback) {
+        this.filesDir = filesDir;
+        this.mappingsDir = null;
+        this.fallback = fallback;
+    }
+
+    /**
+     * A cache of the templates in {@code filesDir} that returns this cache's
+     * template for any file the directory does not have. Overlays load files on
+     * first use and are not watched for changes.
+     */
+    public ResponseTemplateCache overlay(Path filesDir) {
+        return new ResponseTemplateCache(filesDir, this);
+    }
+
+    /**
+     * Returns the template with the given file name, loading it from disk on
+     * first use if it was not referenced from any mapping.
+     */
+    public ResponseTemplate get(String fileName) throws IOException {
+        ResponseTemplate template = templates.get(fileName);
+        if (template != null) {
+            return template;
+        }
+        if (fallback != null && missing.contains(fileName)) {
+            return fallback.get(fileName);
+        }
+
+        try {
+            template = load(fileName);
+        } catch (NoSuchFileException e) {
+            if (fallback == null) {
+                throw e;
+            }
+            missing.add(fileName);
+            return fallback.get(fileName);
+        }
+        ResponseTemplate existing = templates.putIfAbsent(fileName, template);
+        return existing != null ? existing : template;
+    }
+
+    public int size() {
+        return templates.size();
+    }
+
+    // ---------- Startup Loading ----------
+
+    private void preload() {
+        if (Files.isDirectory(mappingsDir)) {
+            try (DirectoryStream<Path> mappings = Files.newDirectoryStream(mappingsDir, "*.json")) {
+                for (Path mapping : mappings) {
+                    collectTemplateNames(mapping, referenced);
+                }
+            } catch (IOException e) {
+                logger.error("Unable to list mappings in " + mappingsDir, e);
+            }
+        }
+
+        for (String fileName : referenced) {
+            try {
+                templates.put(fileName, load(fileName));
+            } catch (IOException e) {
+                logger.warn("Response template " + fileName + " referenced by a mapping could not be loaded: " + e);
+            }
+        }
+
+        logger.info("Preloaded {} response templates from {}", templates.size(), filesDir);
+    }
+
+    private void collectTemplateNames(Path mapping, Set<String> fileNames) {
+        try (InputStream in = Files.newInputStream(mapping)) {
+            JsonNode root = Json.reader().readTree(in);
+            JsonNode stubs = root.has("mappings") ? root.get("mappings") : root;
+
+            if (stubs.isArray()) {
+                for (JsonNode stub : stubs) {
+                    collectFromStub(stub, fileNames);
+                }
+            } else {
+                collectFromStub(stubs, fileNames);
+            }
+        } catch (IOException e) {
+            logger.warn("Skipping unreadable mapping " + mapping + ": " + e);
+        }
+    }
+
+    private void collectFromStub(JsonNode stub, Set<String> fileNames) {
+        JsonNode parameters = stub.path("response").path("transformerParameters");
+
+        // also finds per-service overrides nested under "services"
+        for (String parameter : TEMPLATE_PARAMETERS) {
+            for (JsonNode value : parameters.findValues(parameter)) {
+                if (value.isTextual()) {
+                    fileNames.add(value.asText());
+                }
+            }
+        }
+        for (JsonNode table : parameters.findValues(TEMPLATE_TABLE_PARAMETER)) {
+            for (JsonNode value : table) {
+                if (value.isTextual()) {
+                    fileNames.add(value.asText());
+                }
+            }
+        }
+    }
+
+    private ResponseTemplate load(String fileName) throws IOException {
+        Path file = filesDir.resolve(fileName);
+        byte[] bytes = Files.readAllBytes(file);
+        return new ResponseTemplate(fileName, bytes, Files.getLastModifiedTime(file).toMillis());
+    }
+
+    // ---------- Change Watching ----------
+
+    private void startWatcher() {
+        if (!Files.isDirectory(filesDir)) {
+            return;
+        }
+
+        WatchService watchService;
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            filesDir.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException e) {
+            logger.warn("Template hot reload disabled, cannot watch " + filesDir + ": " + e);
+            return;
+        }
+
+        Thread watcher = new Thread(() -> watch(watchService), "response-template-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    private void watch(WatchService watchService) {
+        while (!Thread.currentThread().isInterrupted()) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    Set<String> names = new LinkedHashSet<>(referenced);
+                    names.addAll(templates.keySet());
+                    names.forEach(this::refresh);
+                    continue;
+                }
+
+                refresh(((Path) event.context()).toString());
+            }
+
+            if (!key.reset()) {
+                logger.warn("Stopped watching {}, directory is no longer accessible", filesDir);
+                return;
+            }
+        }
+    }
+
+    /** Reloads {@code fileName} if it is cached or referenced from a mapping. */
+    void refresh(String fileName) {
+        if (!templates.containsKey(fileName) && !referenced.contains(fileName)) {
+            return;
+        }
+        try {
+            templates.put(fileName, load(fileName));
+            logger.info("Reloaded response template {}", fileName);
+        } catch (NoSuchFileException e) {
+            if (templates.remove(fileName) != null) {
+                logger.info("Removed response template {}", fileName);
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to reload response template " + fileName + ": " + e);
+        }
+    }
+}
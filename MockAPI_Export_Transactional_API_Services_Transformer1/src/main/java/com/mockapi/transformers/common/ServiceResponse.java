@@ -0,0 +1,144 @@
+package com.mockapi.transformers.common;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.http.Fault;
+import com.github.tomakehurst.wiremock.http.HttpHeader;
+import com.github.tomakehurst.wiremock.http.HttpHeaders;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.mockapi.transformers.timing.PhaseTimer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A service's answer independent of the WireMock extension type serving it:
+ * applied to a {@link ResponseDefinition} before rendering or to a rendered
+ * {@link Response}. A timed call's phases go out in a {@code Server-Timing} header.
+ */
+public final class ServiceResponse {
+
+    private final int status;
+    private final byte[] body;
+    private final long delayMillis;
+    private final Fault fault;
+    private final boolean gzip;
+
+    private ServiceResponse(int status, byte[] body, long delayMillis, Fault fault, boolean gzip) {
+        this.status = status;
+        this.body = body;
+        this.delayMillis = delayMillis;
+        this.fault = fault;
+        this.gzip = gzip;
+    }
+
+    public static ServiceResponse ok(byte[] body, long delayMillis) {
+        return new ServiceResponse(200, body, delayMillis, null, false);
+    }
+
+    public static ServiceResponse error(int status, String message, long delayMillis) {
+        byte[] body = ("{\"error\":\"" + message + "\"}").getBytes(StandardCharsets.UTF_8);
+        return new ServiceResponse(status, body, delayMillis, null, false);
+    }
+
+    public static ServiceResponse fault(Fault fault, long delayMillis) {
+        return new ServiceResponse(500, new byte[0], delayMillis, fault, false);
+    }
+
+    /**
+     * This response gzip-encoded if {@code request} accepts gzip and the body is
+     * large enough (see {@link GzipEncoder}), otherwise this response.
+     *
+     * @param precompressed gzip form of the body if already known, else null
+     */
+    public ServiceResponse encodedFor(Request request, byte[] precompressed) {
+        if (gzip || fault != null || !GzipEncoder.shouldCompress(request, body.length)) {
+            return this;
+        }
+        byte[] compressed = precompressed != null ? precompressed : GzipEncoder.gzip(body);
+        return new ServiceResponse(status, compressed, delayMillis, null, true);
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    /** Shared body bytes (not copied). */
+    public byte[] getBody() {
+        return body;
+    }
+
+    public long getDelayMillis() {
+        return delayMillis;
+    }
+
+    public boolean isGzip() {
+        return gzip;
+    }
+
+    public ResponseDefinition toDefinition(ResponseDefinition responseDefinition) {
+        ResponseDefinitionBuilder builder = ResponseDefinitionBuilder
+                .like(responseDefinition)
+                .withStatus(status)
+                .withHeader("Content-Type", "application/json")
+                .withHeader("Content-Length", String.valueOf(body.length))
+                .withBody(body);
+
+        if (gzip) {
+            builder.withHeader("Content-Encoding", "gzip")
+                   .withHeader("Vary", "Accept-Encoding");
+        }
+
+        String serverTiming = PhaseTimer.serverTiming();
+        if (serverTiming != null) {
+            builder.withHeader("Server-Timing", serverTiming);
+        }
+
+        if (delayMillis > 0) {
+            Integer fixed = responseDefinition.getFixedDelayMilliseconds();
+            builder.withFixedDelay((int) Math.min(Integer.MAX_VALUE, (fixed == null ? 0 : fixed) + delayMillis));
+        }
+        if (fault != null) {
+            builder.withFault(fault);
+        }
+        return builder.build();
+    }
+
+    public Response toResponse(Response response) {
+        Response.Builder builder = Response.Builder.like(response)
+                .but()
+                .status(status)
+                .body(body)
+                .headers(headersFor(response.getHeaders()))
+                .incrementInitialDelay(delayMillis);
+
+        if (fault != null) {
+            builder.fault(fault);
+        }
+        return builder.build();
+    }
+
+    // ---------- Helpers ----------
+
+    /** {@code headers} with Content-Length, Content-Encoding and Server-Timing describing this body. */
+    private HttpHeaders headersFor(HttpHeaders headers) {
+        List<HttpHeader> result = new ArrayList<>(headers.size() + 4);
+        for (HttpHeader header : headers.all()) {
+            if (!header.keyEquals("Content-Length") && !header.keyEquals("Content-Encoding")) {
+                result.add(header);
+            }
+        }
+        result.add(new HttpHeader("Content-Length", String.valueOf(body.length)));
+        if (gzip) {
+            result.add(new HttpHeader("Content-Encoding", "gzip"));
+            result.add(new HttpHeader("Vary", "Accept-Encoding"));
+        }
+        String serverTiming = PhaseTimer.serverTiming();
+        if (serverTiming != null) {
+            result.add(new HttpHeader("Server-Timing", serverTiming));
+        }
+        return new HttpHeaders(result);
+    }
+}
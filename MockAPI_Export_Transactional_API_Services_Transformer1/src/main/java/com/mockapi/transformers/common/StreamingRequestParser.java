@@ -0,0 +1,173 @@
+package com.mockapi.transformers.common;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.http.Request;
+
+import java.io.IOException;
+
+/**
+ * Single-pass, token-level reader for export transaction requests.
+ *
+ * Reads the raw body bytes with a Jackson {@link JsonParser} and keeps only the
+ * {@code request-header} fields and the {@code service-input} fields named in a
+ * {@link RequestSchema}; every other value is skipped without building a tree.
+ *
+ * The body size limit comes from the {@code maxBodyBytes} transformer parameter,
+ * falling back to the {@code mockapi.maxBodyBytes} system property (default 2 MiB).
+ */
+public final class StreamingRequestParser {
+
+    public static final int DEFAULT_MAX_BODY_BYTES =
+            Integer.getInteger("mockapi.maxBodyBytes", 2 * 1024 * 1024);
+
+    private static final JsonFactory factory = Json.factory();
+
+    private StreamingRequestParser() {
+    }
+
+    public static ParsedRequest parse(Request request,
+                                      RequestSchema schema,
+                                      Parameters parameters) throws IOException {
+
+        return parse(request.getBody(), schema, maxBodyBytes(parameters));
+    }
+
+    public static ParsedRequest parse(byte[] body,
+                                      RequestSchema schema,
+                                      int maxBodyBytes) throws IOException {
+
+        ParsedRequest parsed = new ParsedRequest(schema);
+
+        if (body == null || body.length == 0) {
+            return parsed;
+        }
+        if (body.length > maxBodyBytes) {
+            throw new RequestBodyTooLargeException(body.length, maxBodyBytes);
+        }
+
+        try (JsonParser parser = factory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return parsed;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken token = parser.nextToken();
+
+                if (token == JsonToken.START_OBJECT && "request-header".equals(name)) {
+                    readObject(parser, parsed.header(), null, null);
+                } else if (token == JsonToken.START_OBJECT && "service-input".equals(name)) {
+                    readObject(parser, parsed.input(), schema, parsed);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        return parsed;
+    }
+
+    /**
+     * Reads only the {@code request-header} fields, stopping as soon as the
+     * header object has been read.
+     */
+    public static FieldValues parseHeader(Request request, Parameters parameters) throws IOException {
+        return parseHeader(request.getBody(), maxBodyBytes(parameters));
+    }
+
+    public static FieldValues parseHeader(byte[] body, int maxBodyBytes) throws IOException {
+        FieldValues header = new FieldValues(RequestSchema.HEADER_FIELDS);
+
+        if (body == null || body.length == 0) {
+            return header;
+        }
+        if (body.length > maxBodyBytes) {
+            throw new RequestBodyTooLargeException(body.length, maxBodyBytes);
+        }
+
+        try (JsonParser parser = factory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return header;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken token = parser.nextToken();
+
+                if (token == JsonToken.START_OBJECT && "request-header".equals(name)) {
+                    readObject(parser, header, null, null);
+                    break;
+                }
+                parser.skipChildren();
+            }
+        }
+
+        return header;
+    }
+
+    // ---------- Helpers ----------
+
+    static int maxBodyBytes(Parameters parameters) {
+        return parameters == null
+                ? DEFAULT_MAX_BODY_BYTES
+                : parameters.getInt("maxBodyBytes", DEFAULT_MAX_BODY_BYTES);
+    }
+
+    private static void readObject(JsonParser parser,
+                                   FieldValues target,
+                                   RequestSchema schema,
+                                   ParsedRequest parsed) throws IOException {
+
+        FieldGroup group = target.getGroup();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            int slot = group.slot(name);
+
+            if (slot >= 0) {
+                target.set(slot, scalarText(parser, token));
+            } else if (token == JsonToken.START_ARRAY
+                    && schema != null
+                    && name.equals(schema.getItemsField())) {
+                readItems(parser, schema.getItemFields(), parsed);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static void readItems(JsonParser parser,
+                                  FieldGroup itemFields,
+                                  ParsedRequest parsed) throws IOException {
+
+        parsed.markItemsPresent();
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            FieldValues item = new FieldValues(itemFields);
+            if (token == JsonToken.START_OBJECT) {
+                readObject(parser, item, null, null);
+            } else {
+                parser.skipChildren();
+            }
+            parsed.addItem(item);
+        }
+    }
+
+    private static String scalarText(JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_NULL:
+                return null;
+            case START_OBJECT:
+            case START_ARRAY:
+                parser.skipChildren();
+                return "";
+            default:
+                return parser.getText();
+        }
+    }
+}
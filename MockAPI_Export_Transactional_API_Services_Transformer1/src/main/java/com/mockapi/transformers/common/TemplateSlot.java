@@ -0,0 +1,56 @@
+package com.mockapi.transformers.common;
+
+/**
+ * Response template values that can be replaced per request. A slot matches a
+ * field of the {@code response-header} or {@code service-output} object by any
+ * of its names. Slots are usually scalars; {@link #ITEM_LIST} takes a whole
+ * array written by a {@link JsonFragment}. Generated slots get a fresh value
+ * on every render unless the transformer sets one.
+ */
+public enum TemplateSlot {
+
+    REQUEST_ID("req-hdr-request-id"),
+    SERVICE_NAME("req-hdr-service-name"),
+    REQUEST_TIME("req-hdr-request-time"),
+    REQUEST_SOURCE("request-source"),
+    ERROR_CODE("error-code", "errorCode"),
+    ERROR_DESC("error-desc", "errorDesc"),
+    ITEM_LIST("invoiceList"),
+    RESPONSE_ID(true, "response-id"),
+    RESPONSE_TIME(true, "response-time"),
+    PROCESS_DATE(true, "processDate"),
+    REFERENCE_NO(true, "referenceNo");
+
+    private static final TemplateSlot[] VALUES = values();
+
+    private final boolean generated;
+    private final String[] fieldNames;
+
+    TemplateSlot(String... fieldNames) {
+        this(false, fieldNames);
+    }
+
+    TemplateSlot(boolean generated, String... fieldNames) {
+        this.generated = generated;
+        this.fieldNames = fieldNames;
+    }
+
+    public boolean isGenerated() {
+        return generated;
+    }
+
+    static TemplateSlot forField(String fieldName) {
+        for (TemplateSlot slot : VALUES) {
+            for (String name : slot.fieldNames) {
+                if (name.equals(fieldName)) {
+                    return slot;
+                }
+            }
+        }
+        return null;
+    }
+
+    static int count() {
+        return VALUES.length;
+    }
+}
@@ -0,0 +1,40 @@
+package com.mockapi.transformers.common;
+
+/**
+ * Per-request values for the {@link TemplateSlot}s of a response template.
+ * Slots left unset keep the value written in the template file.
+ */
+public final class TemplateValues {
+
+    private final String[] values = new String[TemplateSlot.count()];
+    private final JsonFragment[] fragments = new JsonFragment[TemplateSlot.count()];
+
+    /** Values that echo the request header back in the response header. */
+    public static TemplateValues echo(FieldValues requestHeader) {
+        TemplateValues values = new TemplateValues();
+        values.set(TemplateSlot.REQUEST_ID, requestHeader.text("request-id"));
+        values.set(TemplateSlot.SERVICE_NAME, requestHeader.text("service-name"));
+        values.set(TemplateSlot.REQUEST_TIME, requestHeader.text("request-time"));
+        values.set(TemplateSlot.REQUEST_SOURCE, requestHeader.text("request-source"));
+        return values;
+    }
+
+    public TemplateValues set(TemplateSlot slot, String value) {
+        values[slot.ordinal()] = value;
+        return this;
+    }
+
+    /** Replaces the slot's value with JSON written by {@code fragment}. */
+    public TemplateValues set(TemplateSlot slot, JsonFragment fragment) {
+        fragments[slot.ordinal()] = fragment;
+        return this;
+    }
+
+    String get(TemplateSlot slot) {
+        return values[slot.ordinal()];
+    }
+
+    JsonFragment fragment(TemplateSlot slot) {
+        return fragments[slot.ordinal()];
+    }
+}
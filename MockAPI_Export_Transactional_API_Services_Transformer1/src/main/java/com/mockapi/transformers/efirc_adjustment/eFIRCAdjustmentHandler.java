@@ -0,0 +1,34 @@
+package com.mockapi.transformers.efirc_adjustment;
+
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.mockapi.transformers.common.ParsedRequest;
+import com.mockapi.transformers.common.TemplateValues;
+import com.mockapi.transformers.routing.ServiceHandler;
+import com.mockapi.transformers.state.TransactionLifecycle;
+import com.mockapi.transformers.validation.ErrorAccumulator;
+import com.mockapi.transformers.validation.ServiceRules;
+
+public class eFIRCAdjustmentHandler extends ServiceHandler {
+
+    public eFIRCAdjustmentHandler() {
+        super("efirc-adjustment", "efirc-adjustment-transformer", "EFIRC_ADJUSTMENT");
+    }
+
+    @Override
+    protected boolean process(ParsedRequest parsed,
+                              ServiceRules rules,
+                              Parameters parameters,
+                              ErrorAccumulator errors,
+                              TemplateValues values) {
+
+        // ---------- Mandatory + Length Validation ----------
+        boolean validationFailed = !rules.validate(parsed, errors);
+
+        // ---------- FIRC Issued + Remaining Amount ----------
+        if (!validationFailed && TransactionLifecycle.isEnabled(parameters)) {
+            validationFailed = !TransactionLifecycle.adjustFirc(parsed.input(), errors);
+        }
+
+        return !validationFailed;
+    }
+}
@@ -0,0 +1,34 @@
+package com.mockapi.transformers.efirc_issuance;
+
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.mockapi.transformers.common.ParsedRequest;
+import com.mockapi.transformers.common.TemplateValues;
+import com.mockapi.transformers.routing.ServiceHandler;
+import com.mockapi.transformers.state.TransactionLifecycle;
+import com.mockapi.transformers.validation.ErrorAccumulator;
+import com.mockapi.transformers.validation.ServiceRules;
+
+public class eFIRCIssuanceHandler extends ServiceHandler {
+
+    public eFIRCIssuanceHandler() {
+        super("efirc-issuance", "efirc-issuance-transformer", "EFIRC_NOTIFICATION");
+    }
+
+    @Override
+    protected boolean process(ParsedRequest parsed,
+                              ServiceRules rules,
+                              Parameters parameters,
+                              ErrorAccumulator errors,
+                              TemplateValues values) {
+
+        // ---------------- Mandatory + Length Validation ----------------
+        boolean isValid = rules.validate(parsed, errors);
+
+        // Register the issued FIRC for later adjustments
+        if (isValid && TransactionLifecycle.isEnabled(parameters)) {
+            isValid = TransactionLifecycle.issueFirc(parsed.input(), errors);
+        }
+
+        return isValid;
+    }
+}
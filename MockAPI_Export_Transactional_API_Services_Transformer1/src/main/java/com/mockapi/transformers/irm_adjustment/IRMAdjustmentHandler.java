@@ -0,0 +1,37 @@
+package com.mockapi.transformers.irm_adjustment;
+
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.mockapi.transformers.common.ParsedRequest;
+import com.mockapi.transformers.common.TemplateValues;
+import com.mockapi.transformers.routing.ServiceHandler;
+import com.mockapi.transformers.state.TransactionLifecycle;
+import com.mockapi.transformers.validation.ErrorAccumulator;
+import com.mockapi.transformers.validation.ServiceRules;
+
+public class IRMAdjustmentHandler extends ServiceHandler {
+
+    public IRMAdjustmentHandler() {
+        super("irm-adjustment", "irm-adjustment-transformer", "IRM_ADJUSTMENT");
+    }
+
+    @Override
+    protected boolean process(ParsedRequest parsed,
+                              ServiceRules rules,
+                              Parameters parameters,
+                              ErrorAccumulator errors,
+                              TemplateValues values) {
+
+        // -------------------------------
+        // MANDATORY + OPTIONAL FIELD VALIDATION
+        // (rules: validation-rules.json)
+        // -------------------------------
+        boolean isValidRequest = rules.validate(parsed, errors);
+
+        // The IRM must exist and cover the adjusted amount
+        if (isValidRequest && TransactionLifecycle.isEnabled(parameters)) {
+            isValidRequest = TransactionLifecycle.adjustIrm(parsed.input(), errors);
+        }
+
+        return isValidRequest;
+    }
+}
@@ -0,0 +1,35 @@
+package com.mockapi.transformers.irm_extension;
+
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.mockapi.transformers.common.ParsedRequest;
+import com.mockapi.transformers.common.TemplateValues;
+import com.mockapi.transformers.routing.ServiceHandler;
+import com.mockapi.transformers.state.TransactionLifecycle;
+import com.mockapi.transformers.validation.ErrorAccumulator;
+import com.mockapi.transformers.validation.ServiceRules;
+
+public class IRMExtensionHandler extends ServiceHandler {
+
+    public IRMExtensionHandler() {
+        super("irm-extension", "irm-extension-transformer", "IRM_EXTENSION");
+    }
+
+    @Override
+    protected boolean process(ParsedRequest parsed,
+                              ServiceRules rules,
+                              Parameters parameters,
+                              ErrorAccumulator errors,
+                              TemplateValues values) {
+
+        // -------- Mandatory, date format and conditional
+        //          (extensionIndicator = 1) validations ----------
+        boolean validationFailed = !rules.validate(parsed, errors);
+
+        // -------- The IRM must exist ----------
+        if (!validationFailed && TransactionLifecycle.isEnabled(parameters)) {
+            validationFailed = !TransactionLifecycle.extendIrm(parsed.input(), errors);
+        }
+
+        return !validationFailed;
+    }
+}
@@ -0,0 +1,95 @@
+package com.mockapi.transformers.journal;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.tomakehurst.wiremock.admin.Router;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.extension.AdminApiExtension;
+import com.github.tomakehurst.wiremock.http.QueryParameter;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.mockapi.transformers.common.Json;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Pages through the {@link TransactionJournal}, newest first:
+ * {@code GET /__admin/mockapi/journal?service=&requestId=&limit=&before=}.
+ *
+ * {@code next} in the response is the {@code before} value for the following page.
+ */
+public class JournalAdminExtension implements AdminApiExtension {
+
+    private static final int DEFAULT_LIMIT = 50;
+    private static final int MAX_LIMIT = 1000;
+
+    @Override
+    public String getName() {
+        return "mockapi-journal";
+    }
+
+    @Override
+    public void contributeAdminApiRoutes(Router router) {
+        router.add(RequestMethod.GET, "/mockapi/journal",
+                (admin, serveEvent, pathParams) -> query(serveEvent.getRequest()));
+    }
+
+    private static ResponseDefinition query(Request request) {
+        TransactionJournal journal = TransactionJournal.getInstance();
+
+        int limit;
+        long before;
+        try {
+            limit = Math.min(MAX_LIMIT, Integer.parseInt(param(request, "limit", String.valueOf(DEFAULT_LIMIT))));
+            before = Long.parseLong(param(request, "before", String.valueOf(Long.MAX_VALUE)));
+        } catch (NumberFormatException e) {
+            return json(400, "{\"error\":\"limit and before must be numbers\"}");
+        }
+
+        List<JournalRecord> records = journal.query(
+                param(request, "service", null), param(request, "requestId", null), before, limit);
+
+        ObjectNode root = Json.object();
+        root.put("capacity", journal.capacity());
+        root.put("total", journal.size());
+
+        ArrayNode items = root.putArray("records");
+        for (JournalRecord record : records) {
+            ObjectNode node = items.addObject();
+            node.put("sequence", record.getSequence());
+            node.put("timestamp", Instant.ofEpochMilli(record.getTimestamp()).toString());
+            node.put("transformer", record.getTransformer());
+            node.put("requestId", record.getRequestId());
+            node.put("service", record.getService());
+            node.put("outcome", record.getOutcome().label());
+            node.put("errorCodes", record.getErrorCodes());
+            node.put("latencyMicros", record.getLatencyMicros());
+        }
+
+        if (records.size() == limit && limit > 0) {
+            root.put("next", records.get(records.size() - 1).getSequence());
+        } else {
+            root.putNull("next");
+        }
+        return json(200, root.toString());
+    }
+
+    // ---------- Helpers ----------
+
+    private static String param(Request request, String name, String defaultValue) {
+        QueryParameter parameter = request.queryParameter(name);
+        return parameter != null && parameter.isPresent() && !parameter.firstValue().isEmpty()
+                ? parameter.firstValue()
+                : defaultValue;
+    }
+
+    private static ResponseDefinition json(int status, String body) {
+        return new ResponseDefinitionBuilder()
+                .withStatus(status)
+                .withHeader("Content-Type", "application/json")
+                .withBody(body)
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.mockapi.transformers.journal;
+
+import com.mockapi.transformers.common.Outcome;
+
+/**
+ * On-heap copy of one journal record, created only when the journal is queried.
+ */
+public final class JournalRecord {
+
+    private final long sequence;
+    private final long timestamp;
+    private final String transformer;
+    private final String requestId;
+    private final String service;
+    private final Outcome outcome;
+    private final String errorCodes;
+    private final long latencyMicros;
+
+    JournalRecord(long sequence,
+                  long timestamp,
+                  String transformer,
+                  String requestId,
+                  String service,
+                  Outcome outcome,
+                  String errorCodes,
+                  long latencyMicros) {
+        this.sequence = sequence;
+        this.timestamp = timestamp;
+        this.transformer = transformer;
+        this.requestId = requestId;
+        this.service = service;
+        this.outcome = outcome;
+        this.errorCodes = errorCodes;
+        this.latencyMicros = latencyMicros;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /** Epoch milliseconds. */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public String getTransformer() {
+        return transformer;
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public String getService() {
+        return service;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public String getErrorCodes() {
+        return errorCodes;
+    }
+
+    public long getLatencyMicros() {
+        return latencyMicros;
+    }
+}
@@ -0,0 +1,236 @@
+package com.mockapi.transformers.journal;
+
+import com.mockapi.transformers.common.Outcome;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded journal of transformer decisions in fixed-size records, kept
+ * off-heap in a ring buffer so it can replace WireMock's request journal in
+ * long soak tests.
+ *
+ * The buffer is direct memory by default, or a memory-mapped file when
+ * {@code -Dmockapi.journal.file} is set (records then survive a restart).
+ * The capacity comes from {@code -Dmockapi.journal.capacity} (default 65536
+ * records of 256 bytes). Strings longer than their field are truncated and
+ * stored as ASCII.
+ *
+ * Each record starts with a stamp used as a sequence lock: writers set it to
+ * -1, write the record, then publish {@code sequence + 1}; readers drop a
+ * record whose stamp changed while it was copied.
+ */
+public final class TransactionJournal {
+
+    private static final Logger logger =
+            LogManager.getLogger(TransactionJournal.class);
+
+    static final int RECORD_SIZE = 256;
+
+    // ---------- Record Layout ----------
+    private static final int STAMP = 0;
+    private static final int TIMESTAMP = 8;
+    private static final int LATENCY = 16;
+    private static final int OUTCOME = 24;
+    private static final int REQUEST_ID_LENGTH = 25;
+    private static final int SERVICE_LENGTH = 26;
+    private static final int TRANSFORMER_LENGTH = 27;
+    private static final int CODES_LENGTH = 28;
+    private static final int REQUEST_ID = 32;
+    private static final int SERVICE = 80;
+    private static final int TRANSFORMER = 120;
+    private static final int CODES = 160;
+
+    private static final int REQUEST_ID_MAX = SERVICE - REQUEST_ID;
+    private static final int SERVICE_MAX = TRANSFORMER - SERVICE;
+    private static final int TRANSFORMER_MAX = CODES - TRANSFORMER;
+    private static final int CODES_MAX = RECORD_SIZE - CODES;
+
+    private static final VarHandle LONGS =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private static final Outcome[] OUTCOMES = Outcome.values();
+
+    private static final class Holder {
+        private static final TransactionJournal INSTANCE = create();
+    }
+
+    public static TransactionJournal getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private final ByteBuffer buffer;
+    private final int capacity;
+    private final AtomicLong next;
+
+    TransactionJournal(ByteBuffer buffer) {
+        this.buffer = buffer.order(ByteOrder.nativeOrder());
+        this.capacity = buffer.capacity() / RECORD_SIZE;
+        this.next = new AtomicLong(recover());
+    }
+
+    private static TransactionJournal create() {
+        int size = bufferSize(Integer.getInteger("mockapi.journal.capacity", 65536));
+        int capacity = size / RECORD_SIZE;
+        String file = System.getProperty("mockapi.journal.file");
+
+        if (file != null) {
+            Path path = Paths.get(file);
+            try (FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                logger.info("Transaction journal mapped to {} ({} records)", path, capacity);
+                return new TransactionJournal(mapped);
+            } catch (IOException e) {
+                logger.warn("Cannot map transaction journal " + path + ", using direct memory: " + e);
+            }
+        }
+        return new TransactionJournal(ByteBuffer.allocateDirect(size));
+    }
+
+    /** Bytes needed for {@code capacity} records; a buffer is limited to {@code Integer.MAX_VALUE} bytes. */
+    static int bufferSize(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(
+                    "mockapi.journal.capacity must be positive, was " + capacity);
+        }
+        try {
+            return Math.multiplyExact(capacity, RECORD_SIZE);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("mockapi.journal.capacity of " + capacity
+                    + " records exceeds the maximum of " + Integer.MAX_VALUE / RECORD_SIZE);
+        }
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /** Number of records ever appended, including overwritten ones. */
+    public long size() {
+        return next.get();
+    }
+
+    public void append(String transformer,
+                       CharSequence requestId,
+                       CharSequence service,
+                       Outcome outcome,
+                       CharSequence errorCodes,
+                       long latencyNanos) {
+
+        long sequence = next.getAndIncrement();
+        int base = (int) (sequence % capacity) * RECORD_SIZE;
+
+        LONGS.setVolatile(buffer, base + STAMP, -1L);
+
+        buffer.putLong(base + TIMESTAMP, System.currentTimeMillis());
+        buffer.putLong(base + LATENCY, latencyNanos);
+        buffer.put(base + OUTCOME, (byte) outcome.ordinal());
+        buffer.put(base + REQUEST_ID_LENGTH, (byte) putAscii(base + REQUEST_ID, REQUEST_ID_MAX, requestId));
+        buffer.put(base + SERVICE_LENGTH, (byte) putAscii(base + SERVICE, SERVICE_MAX, service));
+        buffer.put(base + TRANSFORMER_LENGTH, (byte) putAscii(base + TRANSFORMER, TRANSFORMER_MAX, transformer));
+        buffer.put(base + CODES_LENGTH, (byte) putAscii(base + CODES, CODES_MAX, errorCodes));
+
+        LONGS.setRelease(buffer, base + STAMP, sequence + 1);
+    }
+
+    /**
+     * Newest records first, starting below sequence {@code before}.
+     * {@code service} matches the request's service name or the transformer
+     * name; null filters are ignored.
+     */
+    public List<JournalRecord> query(String service, String requestId, long before, int limit) {
+        List<JournalRecord> records = new ArrayList<>(Math.min(limit, 256));
+
+        long newest = Math.min(before, next.get()) - 1;
+        long oldest = Math.max(0, next.get() - capacity);
+
+        for (long sequence = newest; sequence >= oldest && records.size() < limit; sequence--) {
+            JournalRecord record = read(sequence);
+            if (record == null) {
+                continue;
+            }
+            if (service != null
+                    && !service.equalsIgnoreCase(record.getService())
+                    && !service.equalsIgnoreCase(record.getTransformer())) {
+                continue;
+            }
+            if (requestId != null && !requestId.equals(record.getRequestId())) {
+                continue;
+            }
+            records.add(record);
+        }
+        return records;
+    }
+
+    // ---------- Helpers ----------
+
+    private JournalRecord read(long sequence) {
+        int base = (int) (sequence % capacity) * RECORD_SIZE;
+
+        long stamp = (long) LONGS.getAcquire(buffer, base + STAMP);
+        if (stamp != sequence + 1) {
+            return null;
+        }
+
+        long timestamp = buffer.getLong(base + TIMESTAMP);
+        long latency = buffer.getLong(base + LATENCY);
+        int outcome = buffer.get(base + OUTCOME);
+        String requestId = getAscii(base + REQUEST_ID, buffer.get(base + REQUEST_ID_LENGTH));
+        String service = getAscii(base + SERVICE, buffer.get(base + SERVICE_LENGTH));
+        String transformer = getAscii(base + TRANSFORMER, buffer.get(base + TRANSFORMER_LENGTH));
+        String codes = getAscii(base + CODES, buffer.get(base + CODES_LENGTH));
+
+        VarHandle.acquireFence();
+        if ((long) LONGS.getVolatile(buffer, base + STAMP) != stamp
+                || outcome < 0 || outcome >= OUTCOMES.length) {
+            return null;
+        }
+
+        return new JournalRecord(sequence, timestamp, transformer, requestId, service,
+                OUTCOMES[outcome], codes, latency / 1000);
+    }
+
+    private int putAscii(int offset, int max, CharSequence value) {
+        if (value == null) {
+            return 0;
+        }
+        int length = Math.min(value.length(), max);
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            buffer.put(offset + i, c < 0x80 ? (byte) c : (byte) '?');
+        }
+        return length;
+    }
+
+    private String getAscii(int offset, byte length) {
+        int n = length & 0xFF;
+        byte[] bytes = new byte[n];
+        for (int i = 0; i < n; i++) {
+            bytes[i] = buffer.get(offset + i);
+        }
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    /** Next sequence after the records already in a mapped file. */
+    private long recover() {
+        long highest = 0;
+        for (int i = 0; i < capacity; i++) {
+            highest = Math.max(highest, (long) LONGS.getVolatile(buffer, i * RECORD_SIZE + STAMP));
+        }
+        return highest;
+    }
+}
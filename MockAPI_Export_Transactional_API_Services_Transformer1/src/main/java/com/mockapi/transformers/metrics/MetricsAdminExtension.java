@@ -0,0 +1,153 @@
+package com.mockapi.transformers.metrics;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.tomakehurst.wiremock.admin.Router;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.extension.AdminApiExtension;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.mockapi.transformers.common.Json;
+import com.mockapi.transformers.common.Outcome;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Exposes transformer metrics on the WireMock admin API:
+ * <ul>
+ *   <li>{@code GET  /__admin/mockapi/metrics} – JSON</li>
+ *   <li>{@code GET  /__admin/mockapi/metrics/prometheus} – Prometheus text format</li>
+ *   <li>{@code POST /__admin/mockapi/metrics/reset} – clears all counters</li>
+ * </ul>
+ */
+public class MetricsAdminExtension implements AdminApiExtension {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    @Override
+    public String getName() {
+        return "mockapi-metrics";
+    }
+
+    @Override
+    public void contributeAdminApiRoutes(Router router) {
+        router.add(RequestMethod.GET, "/mockapi/metrics",
+                (admin, serveEvent, pathParams) -> json(toJson()));
+
+        router.add(RequestMethod.GET, "/mockapi/metrics/prometheus",
+                (admin, serveEvent, pathParams) -> new ResponseDefinitionBuilder()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "text/plain; version=0.0.4")
+                        .withBody(toPrometheus())
+                        .build());
+
+        router.add(RequestMethod.POST, "/mockapi/metrics/reset",
+                (admin, serveEvent, pathParams) -> {
+                    MetricsRegistry.resetAll();
+                    return json(Json.object().put("status", "reset").toString());
+                });
+    }
+
+    // ---------- JSON ----------
+
+    static String toJson() {
+        ObjectNode root = Json.object();
+        ArrayNode transformers = root.putArray("transformers");
+
+        for (TransformerMetrics metrics : MetricsRegistry.all()) {
+            ObjectNode node = transformers.addObject();
+            node.put("transformer", metrics.getTransformer());
+
+            ObjectNode outcomes = node.putObject("requests");
+            for (Outcome outcome : Outcome.values()) {
+                outcomes.put(outcome.label(), metrics.count(outcome));
+            }
+
+            LatencyHistogram.Snapshot latency = metrics.latency();
+            ObjectNode latencyNode = node.putObject("latencyMicros");
+            latencyNode.put("count", latency.getCount());
+            latencyNode.put("mean", micros(latency.getMeanNanos()));
+            for (double p : PERCENTILES) {
+                latencyNode.put("p" + label(p), micros(latency.percentile(p)));
+            }
+            latencyNode.put("max", micros(latency.getMaxNanos()));
+
+            ObjectNode errors = node.putObject("errorCodes");
+            metrics.errorCodes().forEach(errors::put);
+        }
+        return root.toString();
+    }
+
+    // ---------- Prometheus ----------
+
+    static String toPrometheus() {
+        StringBuilder out = new StringBuilder(2048);
+
+        out.append("# HELP mockapi_transform_requests_total Requests handled per transformer and outcome.\n")
+           .append("# TYPE mockapi_transform_requests_total counter\n");
+        for (TransformerMetrics metrics : MetricsRegistry.all()) {
+            for (Outcome outcome : Outcome.values()) {
+                out.append("mockapi_transform_requests_total{transformer=\"").append(metrics.getTransformer())
+                   .append("\",outcome=\"").append(outcome.label()).append("\"} ")
+                   .append(metrics.count(outcome)).append('\n');
+            }
+        }
+
+        out.append("# HELP mockapi_transform_latency_seconds Transformer latency.\n")
+           .append("# TYPE mockapi_transform_latency_seconds summary\n");
+        for (TransformerMetrics metrics : MetricsRegistry.all()) {
+            LatencyHistogram.Snapshot latency = metrics.latency();
+            String transformer = metrics.getTransformer();
+            for (double p : PERCENTILES) {
+                out.append("mockapi_transform_latency_seconds{transformer=\"").append(transformer)
+                   .append("\",quantile=\"").append(quantile(p)).append("\"} ")
+                   .append(seconds(latency.percentile(p))).append('\n');
+            }
+            out.append("mockapi_transform_latency_seconds_sum{transformer=\"").append(transformer).append("\"} ")
+               .append(seconds(latency.getTotalNanos())).append('\n');
+            out.append("mockapi_transform_latency_seconds_count{transformer=\"").append(transformer).append("\"} ")
+               .append(latency.getCount()).append('\n');
+        }
+
+        out.append("# HELP mockapi_validation_errors_total Validation failures per error code.\n")
+           .append("# TYPE mockapi_validation_errors_total counter\n");
+        for (TransformerMetrics metrics : MetricsRegistry.all()) {
+            for (Map.Entry<String, Long> entry : metrics.errorCodes().entrySet()) {
+                out.append("mockapi_validation_errors_total{transformer=\"").append(metrics.getTransformer())
+                   .append("\",code=\"").append(entry.getKey()).append("\"} ")
+                   .append(entry.getValue()).append('\n');
+            }
+        }
+        return out.toString();
+    }
+
+    // ---------- Helpers ----------
+
+    private static ResponseDefinition json(String body) {
+        return new ResponseDefinitionBuilder()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody(body)
+                .build();
+    }
+
+    private static double micros(double nanos) {
+        return Math.round(nanos / 10.0) / 100.0;
+    }
+
+    private static String seconds(long nanos) {
+        return String.format(Locale.ROOT, "%.9f", nanos / 1e9);
+    }
+
+    private static String quantile(double percentile) {
+        return BigDecimal.valueOf(percentile).movePointLeft(2).stripTrailingZeros().toPlainString();
+    }
+
+    private static String label(double percentile) {
+        return percentile == Math.rint(percentile)
+                ? String.valueOf((long) percentile)
+                : String.valueOf(percentile).replace('.', '_');
+    }
+}
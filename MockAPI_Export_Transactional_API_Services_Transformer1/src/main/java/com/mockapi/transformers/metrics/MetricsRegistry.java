@@ -0,0 +1,29 @@
+package com.mockapi.transformers.metrics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Process-wide registry of {@link TransformerMetrics}, keyed by transformer name.
+ */
+public final class MetricsRegistry {
+
+    private static final Map<String, TransformerMetrics> metrics = new ConcurrentSkipListMap<>();
+
+    private MetricsRegistry() {
+    }
+
+    public static TransformerMetrics forTransformer(String name) {
+        return metrics.computeIfAbsent(name, TransformerMetrics::new);
+    }
+
+    public static Collection<TransformerMetrics> all() {
+        return Collections.unmodifiableCollection(metrics.values());
+    }
+
+    public static void resetAll() {
+        metrics.values().forEach(TransformerMetrics::reset);
+    }
+}
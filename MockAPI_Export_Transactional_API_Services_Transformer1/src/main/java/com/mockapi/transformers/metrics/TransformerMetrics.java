@@ -0,0 +1,69 @@
+package com.mockapi.transformers.metrics;
+
+import com.mockapi.transformers.common.Outcome;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and outcome counters for one transformer.
+ * All recording paths are lock-free and allocation-free once a code has been seen.
+ */
+public final class TransformerMetrics {
+
+    private final String transformer;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder[] outcomes = new LongAdder[Outcome.values().length];
+    private final ConcurrentHashMap<String, LongAdder> errorCodes = new ConcurrentHashMap<>();
+
+    TransformerMetrics(String transformer) {
+        this.transformer = transformer;
+        for (int i = 0; i < outcomes.length; i++) {
+            outcomes[i] = new LongAdder();
+        }
+    }
+
+    public String getTransformer() {
+        return transformer;
+    }
+
+    /** Records the outcome and the time elapsed since {@code startNanos}. */
+    public void record(Outcome outcome, long startNanos) {
+        latency.record(System.nanoTime() - startNanos);
+        outcomes[outcome.ordinal()].increment();
+    }
+
+    public void countError(String code) {
+        LongAdder counter = errorCodes.get(code);
+        if (counter == null) {
+            counter = errorCodes.computeIfAbsent(code, c -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    public long count(Outcome outcome) {
+        return outcomes[outcome.ordinal()].sum();
+    }
+
+    /** Error code counts, sorted by code. */
+    public Map<String, Long> errorCodes() {
+        Map<String, Long> counts = new TreeMap<>();
+        errorCodes.forEach((code, counter) -> counts.put(code, counter.sum()));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    public LatencyHistogram.Snapshot latency() {
+        return latency.snapshot();
+    }
+
+    public void reset() {
+        latency.reset();
+        for (LongAdder counter : outcomes) {
+            counter.reset();
+        }
+        errorCodes.clear();
+    }
+}
@@ -0,0 +1,37 @@
+package com.mockapi.transformers.replay;
+
+import com.mockapi.transformers.common.FieldValues;
+
+/**
+ * Response body rendered for a request-id, kept for retries of that request.
+ */
+public final class CachedResponse {
+
+    private final FieldValues requestHeader;
+    private final byte[] body;
+    private final long expiresAt;
+
+    CachedResponse(FieldValues requestHeader, byte[] body, long expiresAt) {
+        this.requestHeader = requestHeader;
+        this.body = body;
+        this.expiresAt = expiresAt;
+    }
+
+    /** Header of the request that produced the response. */
+    public FieldValues getRequestHeader() {
+        return requestHeader;
+    }
+
+    /** The exact bytes sent the first time (shared, never modify). */
+    public byte[] getBody() {
+        return body;
+    }
+
+    boolean isExpired(long now) {
+        return now - expiresAt > 0;
+    }
+
+    int weight() {
+        return body.length + 128;
+    }
+}
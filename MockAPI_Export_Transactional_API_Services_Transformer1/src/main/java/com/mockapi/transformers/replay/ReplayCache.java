@@ -0,0 +1,163 @@
+package com.mockapi.transformers.replay;
+
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.mockapi.transformers.common.FieldValues;
+import com.mockapi.transformers.common.RequestScope;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Idempotent replay of rendered responses, keyed by service and
+ * {@code request-header.request-id}. A retried request is answered with the
+ * bytes of the first response after reading only the request header.
+ *
+ * The cache is split into segments, each an access-ordered
+ * {@link LinkedHashMap} under its own lock, evicting least recently used
+ * entries beyond its share of {@code -Dmockapi.replay.maxEntries} (default
+ * 100000) or {@code -Dmockapi.replay.maxBytes} (default 64 MiB). Entries
+ * expire after {@code -Dmockapi.replay.ttlSeconds} (default 300).
+ *
+ * Replay is enabled per mapping with {@code "idempotent": true} in
+ * {@code transformerParameters}, or for all with {@code -Dmockapi.replay.enabled=true}.
+ */
+public final class ReplayCache {
+
+    private static final int SEGMENTS = 16;
+
+    private static final boolean DEFAULT_ENABLED = Boolean.getBoolean("mockapi.replay.enabled");
+
+    private static final class Holder {
+        private static final ReplayCache INSTANCE = new ReplayCache(
+                Integer.getInteger("mockapi.replay.maxEntries", 100_000),
+                Long.getLong("mockapi.replay.maxBytes", 64L * 1024 * 1024),
+                TimeUnit.SECONDS.toNanos(Integer.getInteger("mockapi.replay.ttlSeconds", 300)));
+    }
+
+    public static ReplayCache getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final long ttlNanos;
+
+    ReplayCache(int maxEntries, long maxBytes, long ttlNanos) {
+        this.ttlNanos = ttlNanos;
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(Math.max(1, maxEntries / SEGMENTS), Math.max(1, maxBytes / SEGMENTS));
+        }
+    }
+
+    public static boolean isEnabled(Parameters parameters) {
+        return parameters == null
+                ? DEFAULT_ENABLED
+                : parameters.getBoolean("idempotent", DEFAULT_ENABLED);
+    }
+
+    /**
+     * The earlier response to this request-id, or null when replay is off,
+     * the request has no request-id, or nothing is cached.
+     */
+    public CachedResponse lookup(String service, Request request, Parameters parameters) throws IOException {
+        if (!isEnabled(parameters)) {
+            return null;
+        }
+        String requestId = RequestScope.header(request, parameters).get("request-id");
+        if (requestId == null || requestId.isEmpty()) {
+            return null;
+        }
+        return get(key(service, requestId));
+    }
+
+    /** Keeps {@code body} for retries of the request with this header. */
+    public void store(String service, FieldValues requestHeader, Parameters parameters, byte[] body) {
+        if (!isEnabled(parameters)) {
+            return;
+        }
+        String requestId = requestHeader.get("request-id");
+        if (requestId == null || requestId.isEmpty()) {
+            return;
+        }
+        String key = key(service, requestId);
+        segment(key).put(key, new CachedResponse(requestHeader, body, System.nanoTime() + ttlNanos));
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    // ---------- Helpers ----------
+
+    private CachedResponse get(String key) {
+        return segment(key).get(key, System.nanoTime());
+    }
+
+    private Segment segment(String key) {
+        int h = key.hashCode();
+        return segments[(h ^ (h >>> 16)) & (SEGMENTS - 1)];
+    }
+
+    private static String key(String service, String requestId) {
+        return service + '\u0000' + requestId;
+    }
+
+    private static final class Segment {
+
+        private final int maxEntries;
+        private final long maxBytes;
+        private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(64, 0.75f, true);
+        private long bytes;
+
+        Segment(int maxEntries, long maxBytes) {
+            this.maxEntries = maxEntries;
+            this.maxBytes = maxBytes;
+        }
+
+        synchronized CachedResponse get(String key, long now) {
+            CachedResponse cached = entries.get(key);
+            if (cached != null && cached.isExpired(now)) {
+                entries.remove(key);
+                bytes -= cached.weight();
+                return null;
+            }
+            return cached;
+        }
+
+        synchronized void put(String key, CachedResponse response) {
+            CachedResponse previous = entries.put(key, response);
+            if (previous != null) {
+                bytes -= previous.weight();
+            }
+            bytes += response.weight();
+
+            Iterator<Map.Entry<String, CachedResponse>> eldest = entries.entrySet().iterator();
+            while ((entries.size() > maxEntries || bytes > maxBytes) && eldest.hasNext()) {
+                bytes -= eldest.next().getValue().weight();
+                eldest.remove();
+            }
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        synchronized void clear() {
+            entries.clear();
+            bytes = 0;
+        }
+    }
+}
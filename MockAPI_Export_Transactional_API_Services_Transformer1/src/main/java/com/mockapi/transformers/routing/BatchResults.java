@@ -0,0 +1,186 @@
+package com.mockapi.transformers.routing;
+
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.http.ImmutableRequest;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.mockapi.transformers.common.RequestBodyTooLargeException;
+import com.mockapi.transformers.common.RequestScope;
+import com.mockapi.transformers.common.ServiceResponse;
+import com.mockapi.transformers.tenant.BankProfile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The NDJSON results of one batch, built once into the response body.
+ *
+ * Every non-blank input line yields
+ * {@code {"line":<n>,"status":<http status>,"body":<response json>}}, with the
+ * service's response compacted onto a single line.
+ *
+ * The results are held in memory until the response is sent, so a batch is
+ * limited to {@code maxBatchLines} non-blank lines (transformer parameter,
+ * falling back to the {@code mockapi.batch.maxLines} system property, default
+ * 1000); larger batches are refused before any line is handled.
+ */
+final class BatchResults {
+
+    static final int DEFAULT_MAX_LINES = Integer.getInteger("mockapi.batch.maxLines", 1000);
+
+    private static final String URL =
+            "http://localhost/trracsapiserv/bankname/apiservices/export-transaction-api-serv/batch";
+
+    private static final byte[] UNKNOWN_SERVICE =
+            "{\"error\":\"Unknown export transaction service\"}".getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] TOO_LARGE =
+            "{\"error\":\"Request body too large\"}".getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] INVALID_JSON =
+            "{\"error\":\"Invalid JSON line\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final byte[] input;
+    private final RouteTable routes;
+    private final BankProfile bank;
+
+    private byte[] out = new byte[4096];
+    private int size;
+
+    BatchResults(byte[] input, RouteTable routes, BankProfile bank) {
+        this.input = input == null ? new byte[0] : input;
+        this.routes = routes;
+        this.bank = bank;
+    }
+
+    static int maxLines(Parameters parameters) {
+        return parameters == null
+                ? DEFAULT_MAX_LINES
+                : parameters.getInt("maxBatchLines", DEFAULT_MAX_LINES);
+    }
+
+    /** Whether the input has more than {@code maxLines} non-blank lines. */
+    boolean exceeds(int maxLines) {
+        int lines = 0;
+        boolean blank = true;
+        for (byte b : input) {
+            if (b == '\n') {
+                blank = true;
+            } else if (blank && b > ' ') {
+                blank = false;
+                if (++lines > maxLines) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /** Handles every non-blank line in input order; the NDJSON response body. */
+    byte[] build() {
+        int position = 0;
+        int lineNumber = 0;
+        while (position < input.length) {
+            int start = position;
+            int end = start;
+            while (end < input.length && input[end] != '\n') {
+                end++;
+            }
+            position = end + 1;
+            lineNumber++;
+
+            while (end > start && input[end - 1] <= ' ') end--;
+            while (start < end && input[start] <= ' ') start++;
+            if (start < end) {
+                handle(lineNumber, Arrays.copyOfRange(input, start, end));
+            }
+        }
+        return Arrays.copyOf(out, size);
+    }
+
+    private void handle(int lineNumber, byte[] line) {
+        Request request = ImmutableRequest.create()
+                .withAbsoluteUrl(URL)
+                .withMethod(RequestMethod.POST)
+                .withHeader("Content-Type", "application/json")
+                .withBody(line)
+                .build();
+
+        int status;
+        byte[] body;
+        try {
+            ServiceHandler handler = ServiceHandlers.findByServiceName(
+                    RequestScope.header(request, routes.parameters()).text("service-name").trim());
+
+            if (handler == null) {
+                status = 404;
+                body = UNKNOWN_SERVICE;
+            } else {
+                ServiceResponse response = handler.handle(request, routes.parametersFor(handler), bank);
+                status = response.getStatus();
+                body = response.getBody();
+            }
+        } catch (RequestBodyTooLargeException e) {
+            status = 413;
+            body = TOO_LARGE;
+        } catch (IOException e) {
+            status = 400;
+            body = INVALID_JSON;
+        }
+
+        writeRecord(lineNumber, status, body);
+    }
+
+    // ---------- Record Encoding ----------
+
+    private void writeRecord(int lineNumber, int status, byte[] body) {
+        ensure(body.length + 64);
+
+        append("{\"line\":").append(String.valueOf(lineNumber))
+                .append(",\"status\":").append(String.valueOf(status))
+                .append(",\"body\":");
+
+        if (body.length == 0) {
+            append("null");
+        } else {
+            compact(body);
+        }
+        append("}\n");
+    }
+
+    /** Copies the JSON document without whitespace outside strings. */
+    private void compact(byte[] json) {
+        boolean inString = false;
+        for (int i = 0; i < json.length; i++) {
+            byte b = json[i];
+            if (inString) {
+                out[size++] = b;
+                if (b == '\\' && i + 1 < json.length) {
+                    out[size++] = json[++i];
+                } else if (b == '"') {
+                    inString = false;
+                }
+            } else if (b == '"') {
+                inString = true;
+                out[size++] = b;
+            } else if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                out[size++] = b;
+            }
+        }
+    }
+
+    private BatchResults append(String ascii) {
+        ensure(ascii.length());
+        for (int i = 0; i < ascii.length(); i++) {
+            out[size++] = (byte) ascii.charAt(i);
+        }
+        return this;
+    }
+
+    private void ensure(int extra) {
+        if (size + extra > out.length) {
+            out = Arrays.copyOf(out, Math.max(out.length * 2, size + extra));
+        }
+    }
+}
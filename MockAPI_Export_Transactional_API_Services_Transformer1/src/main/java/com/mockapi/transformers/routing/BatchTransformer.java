@@ -0,0 +1,90 @@
+package com.mockapi.transformers.routing;
+
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ResponseTransformerV2;
+import com.github.tomakehurst.wiremock.http.HttpHeader;
+import com.github.tomakehurst.wiremock.http.HttpHeaders;
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.mockapi.transformers.tenant.BankProfile;
+import com.mockapi.transformers.tenant.BankProfiles;
+import com.mockapi.transformers.timing.Phase;
+import com.mockapi.transformers.timing.PhaseTimer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves {@code .../export-transaction-api-serv/batch}: a newline-delimited
+ * JSON body of service requests, any mix of the six services, answered with
+ * one NDJSON result per non-blank line in input order.
+ *
+ * Each line is routed on its {@code request-header.service-name} and handled
+ * exactly like a single request (validation, lifecycle, replay, audit). The
+ * results are built into one body before the response is returned, so the
+ * request journal records them and phase timing covers every line. Parameters
+ * and the bank path segment work as for the {@link ServiceRouterTransformer}.
+ * Batches over {@code maxBatchLines} lines are answered with 413 (see
+ * {@link BatchResults}).
+ */
+public class BatchTransformer implements ResponseTransformerV2 {
+
+    static final String CONTENT_TYPE = "application/x-ndjson";
+
+    private static final byte[] TOO_LARGE =
+            "{\"error\":\"Batch too large\"}".getBytes(StandardCharsets.UTF_8);
+
+    private static final BankProfiles banks = BankProfiles.getInstance();
+
+    private static final Map<Parameters, RouteTable> tables = new ConcurrentHashMap<>();
+
+    @Override
+    public String getName() {
+        return "export-batch-transformer";
+    }
+
+    @Override
+    public boolean applyGlobally() {
+        return false;
+    }
+
+    @Override
+    public Response transform(Response response, ServeEvent serveEvent) {
+        PhaseTimer.begin();
+        Parameters parameters = serveEvent.getTransformerParameters();
+        RouteTable routes = tables.computeIfAbsent(
+                parameters == null ? Parameters.empty() : parameters, RouteTable::new);
+
+        ServiceRoutes.Route route = ServiceRoutes.match(serveEvent.getRequest().getUrl());
+        BankProfile bank = banks.forBank(route != null ? route.bank : null);
+        PhaseTimer.mark(Phase.ROUTE);
+
+        BatchResults batch = new BatchResults(serveEvent.getRequest().getBody(), routes, bank);
+        if (batch.exceeds(BatchResults.maxLines(routes.parameters()))) {
+            PhaseTimer.end(getName());
+            return Response.Builder.like(response)
+                    .but()
+                    .status(413)
+                    .headers(new HttpHeaders(new HttpHeader("Content-Type", "application/json")))
+                    .body(TOO_LARGE)
+                    .build();
+        }
+        byte[] results = batch.build();
+
+        HttpHeaders headers = new HttpHeaders(new HttpHeader("Content-Type", CONTENT_TYPE));
+        String serverTiming = PhaseTimer.serverTiming();
+        if (serverTiming != null) {
+            headers = headers.plus(new HttpHeader("Server-Timing", serverTiming));
+        }
+
+        Response answer = Response.Builder.like(response)
+                .but()
+                .status(200)
+                .headers(headers)
+                .body(results)
+                .build();
+        PhaseTimer.end(getName());
+        return answer;
+    }
+}
@@ -0,0 +1,118 @@
+package com.mockapi.transformers.routing;
+
+import java.util.Arrays;
+
+/**
+ * A character trie from URL path patterns to values, matched in one pass
+ * over the path without allocating.
+ *
+ * A {@code *} pattern segment matches any one non-empty path segment, but
+ * only when no literal pattern matches that far, so specific paths can be
+ * added in front of a generic one. A value matches where its pattern ends at
+ * the end of the path, or anywhere if the pattern ends with {@code /}; the
+ * longest match wins.
+ *
+ * Built once and then only read.
+ */
+final class PathTrie<T> {
+
+    private static final class Node<T> {
+        private char[] labels = new char[0];
+        private Node<T>[] children = newArray(0);
+        private Node<T> wildcard;
+        private T value;
+
+        Node<T> child(char c) {
+            char[] labels = this.labels;
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node<T> addChild(char c) {
+            Node<T> child = child(c);
+            if (child == null) {
+                child = new Node<>();
+                labels = Arrays.copyOf(labels, labels.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                labels[labels.length - 1] = c;
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> Node<T>[] newArray(int size) {
+            return (Node<T>[]) new Node<?>[size];
+        }
+    }
+
+    private final Node<T> root = new Node<>();
+
+    void add(String pattern, T value) {
+        Node<T> node = root;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '*' && i > 0 && pattern.charAt(i - 1) == '/') {
+                if (node.wildcard == null) {
+                    node.wildcard = new Node<>();
+                }
+                node = node.wildcard;
+            } else {
+                node = node.addChild(c);
+            }
+        }
+        node.value = value;
+    }
+
+    /** The value of the longest pattern matching {@code path[0, end)}, or null. */
+    T match(String path, int end) {
+        return match(root, path, 0, end);
+    }
+
+    private T match(Node<T> node, String path, int i, int end) {
+        T best = null;
+        int bestAt = -1;
+        Node<T> wildcard = null;
+        int wildcardAt = -1;
+
+        while (true) {
+            if (node.value != null && (i == end || path.charAt(i - 1) == '/')) {
+                best = node.value;
+                bestAt = i;
+            }
+            if (i == end) {
+                break;
+            }
+            if (node.wildcard != null && i > 0 && path.charAt(i - 1) == '/') {
+                wildcard = node.wildcard;
+                wildcardAt = i;
+            }
+            node = node.child(path.charAt(i));
+            if (node == null) {
+                break;
+            }
+            i++;
+        }
+
+        // a literal match past the wildcard's segment is the more specific one
+        if (wildcard == null || bestAt > wildcardAt) {
+            return best;
+        }
+
+        int segmentEnd = wildcardAt;
+        while (segmentEnd < end && path.charAt(segmentEnd) != '/') {
+            segmentEnd++;
+        }
+        if (segmentEnd > wildcardAt) {
+            T matched = match(wildcard, path, segmentEnd, end);
+            if (matched != null) {
+                return matched;
+            }
+        }
+        return best;
+    }
+}
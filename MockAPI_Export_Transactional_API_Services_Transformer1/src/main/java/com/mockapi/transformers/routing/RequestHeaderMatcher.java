@@ -0,0 +1,46 @@
+package com.mockapi.transformers.routing;
+
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.matching.MatchResult;
+import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
+import com.mockapi.transformers.common.FieldValues;
+import com.mockapi.transformers.common.RequestScope;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Custom matcher on {@code request-header} fields, e.g.
+ * {@code "customMatcher": {"name": "request-header-matcher", "parameters": {"service-name": "IRM_EXTENSION"}}}.
+ * Every parameter except {@code maxBodyBytes} must equal the trimmed header
+ * field. The header is read through the {@link RequestScope}, so matching does
+ * not add a parse of the body.
+ */
+public class RequestHeaderMatcher extends RequestMatcherExtension {
+
+    @Override
+    public String getName() {
+        return "request-header-matcher";
+    }
+
+    @Override
+    public MatchResult match(Request request, Parameters parameters) {
+        FieldValues header;
+        try {
+            header = RequestScope.header(request, parameters);
+        } catch (IOException e) {
+            return MatchResult.noMatch();
+        }
+
+        for (Map.Entry<String, Object> expected : parameters.entrySet()) {
+            if ("maxBodyBytes".equals(expected.getKey())) {
+                continue;
+            }
+            if (!header.text(expected.getKey()).trim().equals(String.valueOf(expected.getValue()))) {
+                return MatchResult.noMatch();
+            }
+        }
+        return MatchResult.exactMatch();
+    }
+}
@@ -0,0 +1,86 @@
+package com.mockapi.transformers.routing;
+
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.mockapi.transformers.common.RequestScope;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Transformer parameters of a router mapping, resolved once into the
+ * parameters each service handler sees: the mapping's top-level parameters
+ * overlaid with its {@code services.<service>} entry.
+ */
+final class RouteTable {
+
+    static final String SERVICES = "services";
+
+    private final Parameters parameters;
+    private final Map<ServiceHandler, Parameters> serviceParameters = new HashMap<>();
+
+    RouteTable(Parameters parameters) {
+        this.parameters = parameters;
+
+        Object services = parameters.get(SERVICES);
+        for (ServiceHandler handler : ServiceHandlers.all()) {
+            Parameters merged = new Parameters();
+            merged.putAll(parameters);
+            merged.remove(SERVICES);
+
+            if (services instanceof Map) {
+                Object own = ((Map<?, ?>) services).get(handler.getService());
+                if (own instanceof Map) {
+                    ((Map<?, ?>) own).forEach((key, value) -> merged.put(String.valueOf(key), value));
+                }
+            }
+            serviceParameters.put(handler, merged);
+        }
+    }
+
+    /**
+     * The bank and handler of the request's URL. The service is taken from the
+     * URL's last path segment, falling back to the request's
+     * {@code request-header.service-name}; null when neither is known.
+     */
+    ServiceRoutes.Route route(Request request) throws IOException {
+        String url = request.getUrl();
+        ServiceRoutes.Route route = ServiceRoutes.match(url);
+        if (route != null && route.handler != null) {
+            return route;
+        }
+
+        ServiceHandler handler = route == null ? ServiceHandlers.findByService(lastSegment(url)) : null;
+        if (handler == null) {
+            String serviceName = RequestScope.header(request, parameters).text("service-name");
+            handler = ServiceHandlers.findByServiceName(serviceName.trim());
+        }
+        if (handler == null) {
+            return null;
+        }
+        return new ServiceRoutes.Route(route != null ? route.bank : null, handler);
+    }
+
+    /** Whether the table was built from this very parameters instance. */
+    boolean isFor(Parameters parameters) {
+        return this.parameters == parameters;
+    }
+
+    /** The mapping's own parameters. */
+    Parameters parameters() {
+        return parameters;
+    }
+
+    Parameters parametersFor(ServiceHandler handler) {
+        return serviceParameters.get(handler);
+    }
+
+    private static String lastSegment(String url) {
+        int end = url.indexOf('?');
+        if (end < 0) {
+            end = url.length();
+        }
+        return url.substring(url.lastIndexOf('/', end - 1) + 1, end);
+    }
+}
@@ -0,0 +1,201 @@
+package com.mockapi.transformers.routing;
+
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.mockapi.transformers.audit.AuditEntry;
+import com.mockapi.transformers.audit.AuditLog;
+import com.mockapi.transformers.common.Outcome;
+import com.mockapi.transformers.common.ParsedRequest;
+import com.mockapi.transformers.common.RequestBodyTooLargeException;
+import com.mockapi.transformers.common.RequestScope;
+import com.mockapi.transformers.common.ResponseTemplate;
+import com.mockapi.transformers.common.ResponseTemplateCache;
+import com.mockapi.transformers.common.ServiceResponse;
+import com.mockapi.transformers.common.TemplateSlot;
+import com.mockapi.transformers.common.TemplateValues;
+import com.mockapi.transformers.metrics.MetricsRegistry;
+import com.mockapi.transformers.metrics.TransformerMetrics;
+import com.mockapi.transformers.replay.CachedResponse;
+import com.mockapi.transformers.replay.ReplayCache;
+import com.mockapi.transformers.shaping.ResponseShaping;
+import com.mockapi.transformers.tenant.BankProfile;
+import com.mockapi.transformers.timing.Phase;
+import com.mockapi.transformers.timing.PhaseTimer;
+import com.mockapi.transformers.validation.ErrorAccumulator;
+import com.mockapi.transformers.validation.ServiceRules;
+import com.mockapi.transformers.validation.ValidationRules;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Request handling of one export transaction service, shared by its named
+ * transformer and the {@link ServiceRouterTransformer}.
+ *
+ * The handler owns the steps common to every service: error injection, replay,
+ * parsing, template selection, rendering and auditing, marking each
+ * {@link Phase} for the {@link PhaseTimer}. Subclasses only validate the
+ * request and fill in the response values.
+ *
+ * Templates default to {@code <service>-success-response.json} and
+ * {@code <service>-fail-response.json} and can be overridden with the
+ * {@code successFile} and {@code failFile} transformer parameters, and per
+ * first failed rule with {@code failFiles} (see {@link TemplateTable}). Rules
+ * and templates are taken from the request's {@link BankProfile}.
+ */
+public abstract class ServiceHandler {
+
+    private static final ResponseTemplateCache templates =
+            ResponseTemplateCache.getInstance();
+
+    private static final ReplayCache replays =
+            ReplayCache.getInstance();
+
+    private final ServiceRules rules;
+    private final TransformerMetrics metrics;
+    private final String transformerName;
+    private final String serviceName;
+    private final String successFile;
+    private final String failFile;
+
+    // Template tables are compiled once per distinct parameters
+    private final Map<Parameters, TemplateTable> templateTables = new ConcurrentHashMap<>();
+    private volatile TemplateTable lastTemplateTable;
+
+    /**
+     * @param service         key in {@code validation-rules.json} and last segment of the service URL
+     * @param transformerName name of the service's own transformer, also used for its metrics
+     * @param serviceName     {@code request-header.service-name} sent by clients
+     */
+    protected ServiceHandler(String service, String transformerName, String serviceName) {
+        this.rules = ValidationRules.forService(service);
+        this.metrics = MetricsRegistry.forTransformer(transformerName);
+        this.transformerName = transformerName;
+        this.serviceName = serviceName;
+        this.successFile = service + "-success-response.json";
+        this.failFile = service + "-fail-response.json";
+    }
+
+    public String getService() {
+        return rules.getService();
+    }
+
+    public String getTransformerName() {
+        return transformerName;
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    /**
+     * Validates the request against {@code rules}, reporting every violation to
+     * {@code errors}, and sets any service specific response values. Reported
+     * errors are written into the fail template's error code and description.
+     *
+     * @return whether the success template is returned
+     */
+    protected abstract boolean process(ParsedRequest parsed,
+                                       ServiceRules rules,
+                                       Parameters parameters,
+                                       ErrorAccumulator errors,
+                                       TemplateValues values);
+
+    public ServiceResponse handle(Request request, Parameters parameters) {
+        return handle(request, parameters, BankProfile.DEFAULT);
+    }
+
+    public ServiceResponse handle(Request request, Parameters parameters, BankProfile bank) {
+        AuditEntry audit = AuditLog.begin(metrics);
+
+        try {
+            // Emulated backend error or fault
+            ResponseShaping shaping = ResponseShaping.of(parameters);
+            ServiceResponse injected = shaping.inject();
+            if (injected != null) {
+                PhaseTimer.mark(Phase.REPLAY);
+                audit.finish(Outcome.INJECTED, null);
+                PhaseTimer.mark(Phase.AUDIT);
+                return injected;
+            }
+
+            // Retried request-id: answer with the first response
+            String replayKey = bank.replayKey(getService());
+            CachedResponse replay = replays.lookup(replayKey, request, parameters);
+            PhaseTimer.mark(Phase.REPLAY);
+            if (replay != null) {
+                audit.finish(Outcome.REPLAYED, replay.getRequestHeader());
+                PhaseTimer.mark(Phase.AUDIT);
+                ServiceResponse replayed = ServiceResponse.ok(replay.getBody(), shaping.sampleMillis(Outcome.REPLAYED))
+                        .encodedFor(request, null);
+                PhaseTimer.mark(Phase.ENCODE);
+                return replayed;
+            }
+
+            ServiceRules rules = bank.rules(this.rules);
+            ParsedRequest parsed = RequestScope.parse(request, rules.getSchema(), parameters);
+            PhaseTimer.mark(Phase.PARSE);
+
+            // Echo the request header into the response header
+            TemplateValues values = TemplateValues.echo(parsed.header());
+
+            ErrorAccumulator errors = ErrorAccumulator.begin(audit);
+            boolean valid = process(parsed, rules, parameters, errors, values);
+            PhaseTimer.mark(Phase.VALIDATE);
+
+            // Every failed rule, in the order reported, replacing the template's own
+            if (!valid) {
+                values.set(TemplateSlot.ERROR_CODE, errors.codes())
+                      .set(TemplateSlot.ERROR_DESC, errors.descriptions());
+            }
+
+            TemplateTable table = templateTable(parameters);
+            ResponseTemplate template = bank.template(
+                    valid ? table.successFile() : table.failFile(errors.firstCode()));
+            byte[] body = template.render(values);
+            replays.store(replayKey, parsed.header(), parameters, body);
+            PhaseTimer.mark(Phase.RENDER);
+
+            Outcome outcome = valid ? Outcome.SUCCESS : Outcome.FAIL;
+            audit.finish(outcome, parsed.header());
+            PhaseTimer.mark(Phase.AUDIT);
+
+            // Unchanged templates have their gzip form ready
+            ServiceResponse response = ServiceResponse.ok(body, shaping.sampleMillis(outcome))
+                    .encodedFor(request, body == template.bytes() ? template.gzipped() : null);
+            PhaseTimer.mark(Phase.ENCODE);
+            return response;
+
+        } catch (RequestBodyTooLargeException e) {
+            audit.finish(Outcome.REJECTED, null);
+            return ServiceResponse.error(413, "Request body too large", 0);
+
+        } catch (Exception e) {
+            audit.fail(e);
+            return ServiceResponse.error(500, "Internal transformer error", 0);
+        }
+    }
+
+    /** Loads the default templates so the first request does not read them from disk. */
+    void preload() {
+        for (String file : new String[]{successFile, failFile}) {
+            try {
+                templates.get(file);
+            } catch (IOException e) {
+                // not every deployment ships the default file names
+            }
+        }
+    }
+
+    private TemplateTable templateTable(Parameters parameters) {
+        Parameters key = parameters == null ? Parameters.empty() : parameters;
+        TemplateTable table = lastTemplateTable;
+        if (table != null && table.isFor(key)) {
+            return table;
+        }
+        table = templateTables.computeIfAbsent(key, k -> new TemplateTable(k, successFile, failFile));
+        lastTemplateTable = table;
+        return table;
+    }
+}
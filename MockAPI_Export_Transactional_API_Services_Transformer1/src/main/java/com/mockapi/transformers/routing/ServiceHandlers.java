@@ -0,0 +1,75 @@
+package com.mockapi.transformers.routing;
+
+import com.mockapi.transformers.efirc_adjustment.eFIRCAdjustmentHandler;
+import com.mockapi.transformers.efirc_issuance.eFIRCIssuanceHandler;
+import com.mockapi.transformers.irm_adjustment.IRMAdjustmentHandler;
+import com.mockapi.transformers.irm_extension.IRMExtensionHandler;
+import com.mockapi.transformers.shipping_bill_adjustment.ShippingBillAdjustmentHandler;
+import com.mockapi.transformers.shipping_bill_extension.ShippingBillExtensionHandler;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The one handler instance of every export transaction service, looked up by
+ * service key (the last URL segment) or by {@code request-header.service-name}.
+ *
+ * Besides the process name of its templates, a service also answers to the
+ * service-name clients send for it ({@code EFIRC_ISSUANCE} for
+ * {@code EFIRC_NOTIFICATION}, ...), as in the sample payloads.
+ */
+public final class ServiceHandlers {
+
+    private static final Map<String, ServiceHandler> byService = new LinkedHashMap<>();
+    private static final Map<String, ServiceHandler> byServiceName = new LinkedHashMap<>();
+
+    static {
+        register(new eFIRCIssuanceHandler());
+        register(new eFIRCAdjustmentHandler());
+        register(new IRMAdjustmentHandler());
+        register(new IRMExtensionHandler());
+        register(new ShippingBillAdjustmentHandler());
+        register(new ShippingBillExtensionHandler());
+
+        alias("EFIRC_ISSUANCE", "efirc-issuance");
+        alias("SHIPPING_BILL_ADJUSTMENT", "shipping-bill-adjustment");
+        alias("SHIPPING_BILL_EXTENSION", "shipping-bill-extension");
+    }
+
+    private ServiceHandlers() {
+    }
+
+    public static ServiceHandler forService(String service) {
+        ServiceHandler handler = byService.get(service);
+        if (handler == null) {
+            throw new IllegalArgumentException("No handler registered for service " + service);
+        }
+        return handler;
+    }
+
+    /** Handler for a service key, or null. */
+    static ServiceHandler findByService(String service) {
+        return byService.get(service);
+    }
+
+    /** Handler for a {@code request-header.service-name}, or null. */
+    static ServiceHandler findByServiceName(String serviceName) {
+        return byServiceName.get(serviceName);
+    }
+
+    public static Collection<ServiceHandler> all() {
+        return Collections.unmodifiableCollection(byService.values());
+    }
+
+    private static void register(ServiceHandler handler) {
+        byService.put(handler.getService(), handler);
+        byServiceName.put(handler.getServiceName(), handler);
+        handler.preload();
+    }
+
+    private static void alias(String serviceName, String service) {
+        byServiceName.put(serviceName, forService(service));
+    }
+}
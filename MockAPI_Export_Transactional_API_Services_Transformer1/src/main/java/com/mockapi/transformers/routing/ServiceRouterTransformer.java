@@ -0,0 +1,97 @@
+package com.mockapi.transformers.routing;
+
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformerV2;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.mockapi.transformers.common.RequestBodyTooLargeException;
+import com.mockapi.transformers.common.ServiceResponse;
+import com.mockapi.transformers.tenant.BankProfile;
+import com.mockapi.transformers.tenant.BankProfiles;
+import com.mockapi.transformers.timing.Phase;
+import com.mockapi.transformers.timing.PhaseTimer;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves every export transaction service from one catch-all mapping,
+ * dispatching on the last URL path segment ({@code .../efirc-issuance}) or,
+ * failing that, on {@code request-header.service-name}. The bank path segment
+ * selects the {@link BankProfile} the service is served with.
+ *
+ * Per-service parameters such as {@code successFile} go under
+ * {@code services.<service>} in {@code transformerParameters}; top-level
+ * parameters apply to every service.
+ */
+public class ServiceRouterTransformer implements ResponseDefinitionTransformerV2 {
+
+    private static final ServiceResponse UNKNOWN_SERVICE =
+            ServiceResponse.error(404, "Unknown export transaction service", 0);
+
+    private static final ServiceResponse TOO_LARGE =
+            ServiceResponse.error(413, "Request body too large", 0);
+
+    private static final BankProfiles banks = BankProfiles.getInstance();
+
+    // Route tables are resolved once per distinct mapping configuration
+    private static final Map<Parameters, RouteTable> tables = new ConcurrentHashMap<>();
+
+    private volatile RouteTable last;
+
+    @Override
+    public String getName() {
+        return "export-service-router";
+    }
+
+    @Override
+    public boolean applyGlobally() {
+        return false;
+    }
+
+    @Override
+    public ResponseDefinition transform(ServeEvent serveEvent) {
+        PhaseTimer.begin();
+        ResponseDefinition definition = route(serveEvent);
+        PhaseTimer.end(getName());
+        return definition;
+    }
+
+    private ResponseDefinition route(ServeEvent serveEvent) {
+        Request request = serveEvent.getRequest();
+        ResponseDefinition responseDefinition = serveEvent.getResponseDefinition();
+
+        RouteTable routes = routes(serveEvent.getTransformerParameters());
+
+        ServiceRoutes.Route route;
+        try {
+            route = routes.route(request);
+        } catch (RequestBodyTooLargeException e) {
+            return TOO_LARGE.toDefinition(responseDefinition);
+        } catch (IOException e) {
+            route = null;
+        }
+        PhaseTimer.mark(Phase.ROUTE);
+
+        if (route == null) {
+            return UNKNOWN_SERVICE.toDefinition(responseDefinition);
+        }
+
+        ServiceHandler handler = route.handler;
+        return handler.handle(request, routes.parametersFor(handler), banks.forBank(route.bank))
+                .toDefinition(responseDefinition);
+    }
+
+    private RouteTable routes(Parameters parameters) {
+        Parameters key = parameters == null ? Parameters.empty() : parameters;
+        RouteTable routes = last;
+        if (routes != null && routes.isFor(key)) {
+            return routes;
+        }
+        routes = tables.computeIfAbsent(key, RouteTable::new);
+        last = routes;
+        return routes;
+    }
+}
@@ -0,0 +1,77 @@
+package com.mockapi.transformers.routing;
+
+import com.mockapi.transformers.tenant.BankProfiles;
+
+import java.util.Set;
+
+/**
+ * Resolves the bank and service of an export transaction URL,
+ * {@code /trracsapiserv/<bank>/apiservices/export-transaction-api-serv/<service>},
+ * in one walk of a {@link PathTrie}.
+ *
+ * Every bank with a profile directory has literal paths in the trie; any other
+ * bank segment falls through to wildcard routes served with the default profile.
+ * The trie is rebuilt whenever {@link BankProfiles#banks()} changes.
+ */
+final class ServiceRoutes {
+
+    static final String SERVICES_PATH = "/apiservices/export-transaction-api-serv/";
+
+    /** A matched URL: the bank (null for the default profile) and the service's handler, if the URL names one. */
+    static final class Route {
+
+        final String bank;
+        final ServiceHandler handler;
+
+        Route(String bank, ServiceHandler handler) {
+            this.bank = bank;
+            this.handler = handler;
+        }
+    }
+
+    private static final class Built {
+
+        final Set<String> banks;
+        final PathTrie<Route> trie = new PathTrie<>();
+
+        Built(Set<String> banks) {
+            this.banks = banks;
+            addBank("*", null);
+            for (String bank : banks) {
+                addBank(bank, bank);
+            }
+        }
+
+        private void addBank(String segment, String bank) {
+            String prefix = "/trracsapiserv/" + segment + SERVICES_PATH;
+            trie.add(prefix, new Route(bank, null));
+            for (ServiceHandler handler : ServiceHandlers.all()) {
+                trie.add(prefix + handler.getService(), new Route(bank, handler));
+            }
+        }
+    }
+
+    private static volatile Built built;
+
+    private ServiceRoutes() {
+    }
+
+    /** The route of the URL's path, or null if it is not under an export transaction service path. */
+    static Route match(String url) {
+        int end = url.indexOf('?');
+        if (end < 0) {
+            end = url.length();
+        }
+        return trie().match(url, end);
+    }
+
+    private static PathTrie<Route> trie() {
+        Set<String> banks = BankProfiles.getInstance().banks();
+        Built current = built;
+        if (current == null || current.banks != banks) {
+            current = new Built(banks);
+            built = current;
+        }
+        return current.trie;
+    }
+}
@@ -0,0 +1,74 @@
+package com.mockapi.transformers.routing;
+
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.mockapi.transformers.validation.ErrorCodes;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+
+/**
+ * The templates a service answers with under one mapping's parameters:
+ * {@code successFile}, {@code failFile}, and {@code failFiles}, a table from the
+ * error code of the first failed rule to the fail template for that case:
+ * {@code "failFiles": {"EM_HDR_062": "irm-adjustment-fail-response2.json"}}.
+ *
+ * The table is compiled once per parameters into an array indexed by
+ * {@link ErrorCodes} id, so choosing a fail template is a single array read.
+ */
+final class TemplateTable {
+
+    private static final Logger logger =
+            LogManager.getLogger(TemplateTable.class);
+
+    static final String FAIL_FILES = "failFiles";
+
+    private final Parameters parameters;
+    private final String successFile;
+    private final String failFile;
+    // fail template per error code id, null for the default failFile
+    private final String[] failFileByCode;
+
+    TemplateTable(Parameters parameters, String defaultSuccessFile, String defaultFailFile) {
+        this.parameters = parameters;
+        this.successFile = parameters.getString("successFile", defaultSuccessFile);
+        this.failFile = parameters.getString("failFile", defaultFailFile);
+
+        Object table = parameters.get(FAIL_FILES);
+        if (table instanceof Map) {
+            Map<?, ?> entries = (Map<?, ?>) table;
+            entries.keySet().forEach(code -> ErrorCodes.id(String.valueOf(code)));
+
+            this.failFileByCode = new String[ErrorCodes.count()];
+            entries.forEach((code, file) -> {
+                if (file instanceof String) {
+                    failFileByCode[ErrorCodes.id(String.valueOf(code))] = (String) file;
+                } else {
+                    logger.warn("Ignoring {} entry {}: the template name must be a string", FAIL_FILES, code);
+                }
+            });
+        } else {
+            if (table != null) {
+                logger.warn("Ignoring {}: expected an object of error code to template name", FAIL_FILES);
+            }
+            this.failFileByCode = new String[0];
+        }
+    }
+
+    /** Whether the table was built from this very parameters instance. */
+    boolean isFor(Parameters parameters) {
+        return this.parameters == parameters;
+    }
+
+    String successFile() {
+        return successFile;
+    }
+
+    /** The fail template for the first failed rule's {@link ErrorCodes} id (-1 for none). */
+    String failFile(int firstCode) {
+        if (firstCode >= 0 && firstCode < failFileByCode.length && failFileByCode[firstCode] != null) {
+            return failFileByCode[firstCode];
+        }
+        return failFile;
+    }
+}
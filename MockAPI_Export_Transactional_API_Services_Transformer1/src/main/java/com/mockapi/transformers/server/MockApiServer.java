@@ -0,0 +1,69 @@
+package com.mockapi.transformers.server;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.util.Unbox;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+/**
+ * Runs WireMock with this jar's extensions, {@code mappings/} and {@code __files/}
+ * on a Jetty tuned for many concurrent connections (see {@link ServerOptions}).
+ *
+ * Run with {@code java -cp wiremock-standalone-3.9.1.jar:<this jar> com.mockapi.transformers.server.MockApiServer --port=7001}.
+ */
+public final class MockApiServer {
+
+    private static final Logger log = LogManager.getLogger(MockApiServer.class);
+
+    private MockApiServer() {
+    }
+
+    public static void main(String[] args) {
+        ServerOptions options;
+        try {
+            options = ServerOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(ServerOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        System.setProperty("mockapi.root", options.root);
+        TunedJettyHttpServerFactory jetty = new TunedJettyHttpServerFactory(options);
+
+        WireMockConfiguration config = options()
+                .port(options.port)
+                .bindAddress(options.bind)
+                .usingFilesUnderDirectory(options.root)
+                .extensionScanningEnabled(true)
+                .httpServerFactory(jetty)
+                .threadPoolFactory(jetty)
+                .containerThreads(options.threads)
+                .jettyAcceptors(options.acceptors)
+                .jettyAcceptQueueSize(options.acceptQueue)
+                .jettyIdleTimeout(options.idleTimeoutMillis);
+
+        if (options.asyncThreads > 0) {
+            config.asynchronousResponseEnabled(true)
+                  .asynchronousResponseThreads(options.asyncThreads);
+        }
+        if (options.journal > 0) {
+            config.maxRequestJournalEntries(options.journal);
+        } else {
+            config.disableRequestJournal();
+        }
+
+        WireMockServer server = new WireMockServer(config);
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop, "mockapi-shutdown"));
+
+        log.info("MockAPI server on {}:{} acceptors={} selectors={} threads={} asyncThreads={} virtualThreads={}",
+                options.bind, Unbox.box(server.port()), Unbox.box(options.acceptors),
+                Unbox.box(options.selectors), Unbox.box(options.threads),
+                Unbox.box(options.asyncThreads), Unbox.box(options.virtualThreads));
+    }
+}
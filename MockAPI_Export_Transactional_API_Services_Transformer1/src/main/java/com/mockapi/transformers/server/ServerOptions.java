@@ -0,0 +1,94 @@
+package com.mockapi.transformers.server;
+
+/**
+ * Command line options of the {@link MockApiServer}, given as {@code --name=value}.
+ */
+final class ServerOptions {
+
+    static final String USAGE = String.join("\n",
+            "Options (all optional):",
+            "  --port=7001              HTTP port",
+            "  --bind=0.0.0.0           bind address",
+            "  --root=.                 WireMock root with mappings/ and __files/",
+            "  --acceptors=1            Jetty acceptor threads",
+            "  --selectors=<cpus>       Jetty selector threads",
+            "  --threads=200            Jetty container threads (max pool size)",
+            "  --min-threads=8          container threads kept alive when idle",
+            "  --accept-queue=1024      TCP accept backlog",
+            "  --idle-timeout=30000     connection idle timeout in ms",
+            "  --async-threads=8        threads sending delayed responses; 0 sends them on the request thread",
+            "  --virtual-threads=false  handle requests on virtual threads (Java 21+)",
+            "  --journal=0              WireMock request journal size; 0 disables it");
+
+    int port = 7001;
+    String bind = "0.0.0.0";
+    String root = ".";
+    int acceptors = 1;
+    int selectors = Math.max(1, Runtime.getRuntime().availableProcessors());
+    int threads = 200;
+    int minThreads = 8;
+    int acceptQueue = 1024;
+    long idleTimeoutMillis = 30_000;
+    int asyncThreads = 8;
+    boolean virtualThreads;
+    int journal;
+
+    static ServerOptions parse(String[] args) {
+        ServerOptions options = new ServerOptions();
+
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("Unrecognised argument: " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+
+            switch (name) {
+                case "port":
+                    options.port = Integer.parseInt(value);
+                    break;
+                case "bind":
+                    options.bind = value;
+                    break;
+                case "root":
+                    options.root = value;
+                    break;
+                case "acceptors":
+                    options.acceptors = Integer.parseInt(value);
+                    break;
+                case "selectors":
+                    options.selectors = Integer.parseInt(value);
+                    break;
+                case "threads":
+                    options.threads = Integer.parseInt(value);
+                    break;
+                case "min-threads":
+                    options.minThreads = Integer.parseInt(value);
+                    break;
+                case "accept-queue":
+                    options.acceptQueue = Integer.parseInt(value);
+                    break;
+                case "idle-timeout":
+                    options.idleTimeoutMillis = Long.parseLong(value);
+                    break;
+                case "async-threads":
+                    options.asyncThreads = Integer.parseInt(value);
+                    break;
+                case "virtual-threads":
+                    options.virtualThreads = Boolean.parseBoolean(value);
+                    break;
+                case "journal":
+                    options.journal = Integer.parseInt(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option --" + name);
+            }
+        }
+
+        if (options.acceptors < 0 || options.selectors < 1 || options.threads < 1) {
+            throw new IllegalArgumentException("--acceptors must be >= 0, --selectors and --threads >= 1");
+        }
+        options.minThreads = Math.min(options.minThreads, options.threads);
+        return options;
+    }
+}
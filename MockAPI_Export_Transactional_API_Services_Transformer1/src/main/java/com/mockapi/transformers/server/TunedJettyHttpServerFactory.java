@@ -0,0 +1,94 @@
+package com.mockapi.transformers.server;
+
+import com.github.tomakehurst.wiremock.common.JettySettings;
+import com.github.tomakehurst.wiremock.core.Options;
+import com.github.tomakehurst.wiremock.http.AdminRequestHandler;
+import com.github.tomakehurst.wiremock.http.HttpServer;
+import com.github.tomakehurst.wiremock.http.HttpServerFactory;
+import com.github.tomakehurst.wiremock.http.StubRequestHandler;
+import com.github.tomakehurst.wiremock.http.ThreadPoolFactory;
+import com.github.tomakehurst.wiremock.jetty11.Jetty11HttpServer;
+import com.github.tomakehurst.wiremock.jetty11.Jetty11Utils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import wiremock.org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import wiremock.org.eclipse.jetty.io.NetworkTrafficListener;
+import wiremock.org.eclipse.jetty.server.ConnectionFactory;
+import wiremock.org.eclipse.jetty.server.HttpConfiguration;
+import wiremock.org.eclipse.jetty.server.HttpConnectionFactory;
+import wiremock.org.eclipse.jetty.server.ServerConnector;
+import wiremock.org.eclipse.jetty.util.VirtualThreads;
+import wiremock.org.eclipse.jetty.util.thread.QueuedThreadPool;
+import wiremock.org.eclipse.jetty.util.thread.ThreadPool;
+
+/**
+ * WireMock's Jetty 11 server with a configurable number of selector threads
+ * and a container pool that can run request handling on virtual threads.
+ *
+ * WireMock only exposes the acceptor count; its connector always uses two
+ * selectors, which limits how many connections one container can keep busy.
+ */
+final class TunedJettyHttpServerFactory implements HttpServerFactory, ThreadPoolFactory {
+
+    private static final Logger log = LogManager.getLogger(TunedJettyHttpServerFactory.class);
+
+    private final ServerOptions tuning;
+
+    TunedJettyHttpServerFactory(ServerOptions tuning) {
+        this.tuning = tuning;
+    }
+
+    @Override
+    public HttpServer buildHttpServer(Options wireMockOptions,
+                                      AdminRequestHandler adminRequestHandler,
+                                      StubRequestHandler stubRequestHandler) {
+        return new TunedServer(wireMockOptions, adminRequestHandler, stubRequestHandler);
+    }
+
+    @Override
+    public ThreadPool buildThreadPool(Options wireMockOptions) {
+        QueuedThreadPool pool = new QueuedThreadPool(tuning.threads, tuning.minThreads);
+        pool.setName("mockapi-jetty");
+
+        if (tuning.virtualThreads) {
+            if (VirtualThreads.areSupported()) {
+                pool.setVirtualThreadsExecutor(VirtualThreads.getDefaultVirtualThreadsExecutor());
+            } else {
+                log.warn("Virtual threads need Java 21 or later; handling requests on platform threads");
+            }
+        }
+        return pool;
+    }
+
+    /*
+     * Inner class on purpose: Jetty11HttpServer creates its connector from the
+     * super constructor, before fields of a subclass are assigned, while the
+     * enclosing factory (and its tuning) is already reachable.
+     */
+    private final class TunedServer extends Jetty11HttpServer {
+
+        TunedServer(Options wireMockOptions,
+                    AdminRequestHandler adminRequestHandler,
+                    StubRequestHandler stubRequestHandler) {
+            super(wireMockOptions, adminRequestHandler, stubRequestHandler);
+        }
+
+        @Override
+        protected ServerConnector createHttpConnector(String bindAddress,
+                                                      int port,
+                                                      JettySettings jettySettings,
+                                                      NetworkTrafficListener listener) {
+            HttpConfiguration httpConfig = Jetty11Utils.createHttpConfig(jettySettings);
+            ConnectionFactory[] factories = options.getHttp2PlainDisabled()
+                    ? new ConnectionFactory[]{new HttpConnectionFactory(httpConfig)}
+                    : new ConnectionFactory[]{new HttpConnectionFactory(httpConfig), new HTTP2CServerConnectionFactory(httpConfig)};
+
+            ServerConnector connector = new ServerConnector(
+                    jettyServer, null, null, null, tuning.acceptors, tuning.selectors, factories);
+            connector.setPort(port);
+            connector.setHost(bindAddress);
+            Jetty11Utils.setJettySettings(jettySettings, connector);
+            return connector;
+        }
+    }
+}
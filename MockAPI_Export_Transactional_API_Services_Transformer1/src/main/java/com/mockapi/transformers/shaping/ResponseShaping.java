@@ -0,0 +1,158 @@
+package com.mockapi.transformers.shaping;
+
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.http.DelayDistribution;
+import com.github.tomakehurst.wiremock.http.Fault;
+import com.mockapi.transformers.common.Outcome;
+import com.mockapi.transformers.common.ServiceResponse;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency and failure profile of a mapping, emulating the real bank backend.
+ *
+ * Configured in {@code transformerParameters}:
+ * <pre>
+ * "latency": {
+ *   "success": {"type": "lognormal", "median": 120, "sigma": 0.3},
+ *   "fail":    {"type": "uniform", "lower": 200, "upper": 450},
+ *   "default": {"type": "fixed", "milliseconds": 50},
+ *   "spikeRate": 0.005,
+ *   "spike":   {"type": "fixed", "milliseconds": 3000}
+ * },
+ * "inject": {"errorRate": 0.01, "errorStatus": 503, "faultRate": 0.001, "fault": "CONNECTION_RESET_BY_PEER"}
+ * </pre>
+ * Distributions use WireMock's own delay JSON. Outcomes without an entry use
+ * {@code default}. Delays are handed to WireMock rather than slept here, so
+ * with {@code --async-response-enabled} they are served from its scheduler
+ * without holding a Jetty thread.
+ */
+public final class ResponseShaping {
+
+    private static final ResponseShaping NONE = new ResponseShaping(new DelayDistribution[Outcome.values().length], 0, 500, 0, null);
+
+    private static final String INJECTED_ERROR = "Injected backend error";
+
+    // Profiles are built once per distinct configuration
+    private static final Map<List<Object>, ResponseShaping> profiles = new ConcurrentHashMap<>();
+
+    private final DelayDistribution[] delays;
+    private final double errorRate;
+    private final int errorStatus;
+    private final double faultRate;
+    private final Fault fault;
+
+    private ResponseShaping(DelayDistribution[] delays, double errorRate, int errorStatus, double faultRate, Fault fault) {
+        this.delays = delays;
+        this.errorRate = errorRate;
+        this.errorStatus = errorStatus;
+        this.faultRate = faultRate;
+        this.fault = fault;
+    }
+
+    public static ResponseShaping of(Parameters parameters) {
+        if (parameters == null) {
+            return NONE;
+        }
+        Object latency = parameters.get("latency");
+        Object inject = parameters.get("inject");
+        if (latency == null && inject == null) {
+            return NONE;
+        }
+        return profiles.computeIfAbsent(Arrays.asList(latency, inject),
+                key -> create(asParameters(latency), asParameters(inject)));
+    }
+
+    /**
+     * An injected error or fault response, or null when this request is
+     * answered normally.
+     */
+    public ServiceResponse inject() {
+        double roll = roll();
+        if (roll < 0) {
+            return null;
+        }
+        long delay = sampleMillis(Outcome.INJECTED);
+        return roll < faultRate
+                ? ServiceResponse.fault(fault, delay)
+                : ServiceResponse.error(errorStatus, INJECTED_ERROR, delay);
+    }
+
+    /** Sampled delay for the outcome in milliseconds, 0 when none is configured. */
+    public long sampleMillis(Outcome outcome) {
+        DelayDistribution delay = delays[outcome.ordinal()];
+        return delay == null ? 0 : delay.sampleMillis();
+    }
+
+    // ---------- Helpers ----------
+
+    // A value in [0, errorRate + faultRate) when something is injected, else -1
+    private double roll() {
+        if (errorRate == 0 && faultRate == 0) {
+            return -1;
+        }
+        double roll = ThreadLocalRandom.current().nextDouble();
+        return roll < faultRate + errorRate ? roll : -1;
+    }
+
+    private static ResponseShaping create(Parameters latency, Parameters inject) {
+        DelayDistribution[] delays = new DelayDistribution[Outcome.values().length];
+
+        DelayDistribution fallback = distribution(latency, "default");
+        DelayDistribution spike = distribution(latency, "spike");
+        double spikeRate = rate(latency, "spikeRate");
+
+        for (Outcome outcome : Outcome.values()) {
+            DelayDistribution delay = distribution(latency, outcome.label());
+            if (delay == null) {
+                delay = fallback;
+            }
+            if (spike != null && spikeRate > 0) {
+                delay = new SpikeDelay(delay, spike, spikeRate);
+            }
+            delays[outcome.ordinal()] = delay;
+        }
+
+        double faultRate = rate(inject, "faultRate");
+        Fault fault = faultRate > 0
+                ? Fault.valueOf(inject.getString("fault", Fault.CONNECTION_RESET_BY_PEER.name()))
+                : null;
+
+        return new ResponseShaping(
+                delays,
+                rate(inject, "errorRate"),
+                inject.getInt("errorStatus", 500),
+                faultRate,
+                fault);
+    }
+
+    private static DelayDistribution distribution(Parameters parameters, String key) {
+        Object value = parameters.get(key);
+        return value instanceof Map ? asParameters(value).as(DelayDistribution.class) : null;
+    }
+
+    private static double rate(Parameters parameters, String key) {
+        Object value = parameters.get(key);
+        if (value == null) {
+            return 0;
+        }
+        double rate = value instanceof Number
+                ? ((Number) value).doubleValue()
+                : Double.parseDouble(value.toString());
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException(key + " must be between 0 and 1: " + value);
+        }
+        return rate;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Parameters asParameters(Object value) {
+        return value instanceof Map
+                ? Parameters.from((Map<String, Object>) value)
+                : Parameters.empty();
+    }
+}
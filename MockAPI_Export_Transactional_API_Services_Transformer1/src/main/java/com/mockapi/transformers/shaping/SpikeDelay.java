@@ -0,0 +1,31 @@
+package com.mockapi.transformers.shaping;
+
+import com.github.tomakehurst.wiremock.http.DelayDistribution;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A delay distribution that occasionally samples from a second, slower
+ * distribution to emulate tail spikes of the real backend.
+ */
+final class SpikeDelay implements DelayDistribution {
+
+    private final DelayDistribution base;
+    private final DelayDistribution spike;
+    private final double rate;
+
+    SpikeDelay(DelayDistribution base, DelayDistribution spike, double rate) {
+        this.base = base;
+        this.spike = spike;
+        this.rate = rate;
+    }
+
+    @Override
+    public long sampleMillis() {
+        long millis = base == null ? 0 : base.sampleMillis();
+        if (ThreadLocalRandom.current().nextDouble() < rate) {
+            millis += spike.sampleMillis();
+        }
+        return millis;
+    }
+}
@@ -0,0 +1,53 @@
+package com.mockapi.transformers.shipping_bill_adjustment;
+
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.mockapi.transformers.common.ParsedRequest;
+import com.mockapi.transformers.common.TemplateSlot;
+import com.mockapi.transformers.common.TemplateValues;
+import com.mockapi.transformers.routing.ServiceHandler;
+import com.mockapi.transformers.state.TransactionLifecycle;
+import com.mockapi.transformers.validation.ErrorAccumulator;
+import com.mockapi.transformers.validation.ItemReport;
+import com.mockapi.transformers.validation.ServiceRules;
+
+public class ShippingBillAdjustmentHandler extends ServiceHandler {
+
+    public ShippingBillAdjustmentHandler() {
+        super("shipping-bill-adjustment", "shipping-bill-adjustment-transformer", "BILL_ADJUSTMENT");
+    }
+
+    @Override
+    protected boolean process(ParsedRequest parsed,
+                              ServiceRules rules,
+                              Parameters parameters,
+                              ErrorAccumulator errors,
+                              TemplateValues values) {
+
+        /* -------------------------------------------------
+           HEADER, CONDITIONAL (exportType 1 → GOODS,
+           2 → SOFTEX), OPTIONAL AND INVOICE VALIDATION
+           rules: validation-rules.json
+        ------------------------------------------------- */
+        boolean inputValid = rules.validateInput(parsed, errors);
+
+        // Every invoice, fanned out above parallelItemThreshold
+        ItemReport invoices = rules.validateItems(parsed,
+                parameters.getInt("parallelItemThreshold",
+                        ServiceRules.DEFAULT_PARALLEL_ITEM_THRESHOLD));
+        // Invoice errors are listed per invoice and in the service-output errorCode
+        invoices.report(errors);
+
+        boolean isValidRequest = inputValid && invoices.isEmpty();
+
+        if (isValidRequest && TransactionLifecycle.isEnabled(parameters)) {
+            TransactionLifecycle.recordShippingBill(parsed.input());
+        }
+
+        // Failed invoices replace the template's invoiceList
+        if (!isValidRequest) {
+            values.set(TemplateSlot.ITEM_LIST, invoices);
+        }
+
+        return isValidRequest;
+    }
+}
@@ -0,0 +1,33 @@
+package com.mockapi.transformers.shipping_bill_extension;
+
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.mockapi.transformers.common.ParsedRequest;
+import com.mockapi.transformers.common.TemplateValues;
+import com.mockapi.transformers.routing.ServiceHandler;
+import com.mockapi.transformers.state.TransactionLifecycle;
+import com.mockapi.transformers.validation.ErrorAccumulator;
+import com.mockapi.transformers.validation.ServiceRules;
+
+public class ShippingBillExtensionHandler extends ServiceHandler {
+
+    public ShippingBillExtensionHandler() {
+        super("shipping-bill-extension", "shipping-bill-extension-transformer", "BILL_EXTENSION");
+    }
+
+    @Override
+    protected boolean process(ParsedRequest parsed,
+                              ServiceRules rules,
+                              Parameters parameters,
+                              ErrorAccumulator errors,
+                              TemplateValues values) {
+
+        // Mandatory + Length validations, formNo only for Softex (exportType 2)
+        boolean validationFailed = !rules.validate(parsed, errors);
+
+        if (!validationFailed && TransactionLifecycle.isEnabled(parameters)) {
+            TransactionLifecycle.recordShippingBill(parsed.input());
+        }
+
+        return !validationFailed;
+    }
+}
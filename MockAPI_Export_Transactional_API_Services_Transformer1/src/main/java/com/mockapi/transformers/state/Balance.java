@@ -0,0 +1,43 @@
+package com.mockapi.transformers.state;
+
+/**
+ * Immutable state of one transaction. Amounts are fixed-point with
+ * {@link TransactionLifecycle#SCALE} decimals.
+ */
+public final class Balance {
+
+    private final long issued;
+    private final long adjusted;
+    private final int events;
+
+    Balance(long issued, long adjusted, int events) {
+        this.issued = issued;
+        this.adjusted = adjusted;
+        this.events = events;
+    }
+
+    public long getIssued() {
+        return issued;
+    }
+
+    public long getAdjusted() {
+        return adjusted;
+    }
+
+    /** Number of requests that changed this transaction. */
+    public int getEvents() {
+        return events;
+    }
+
+    public long remaining() {
+        return issued - adjusted;
+    }
+
+    Balance plusIssued(long amount) {
+        return new Balance(issued + amount, adjusted, events + 1);
+    }
+
+    Balance plusAdjusted(long amount) {
+        return new Balance(issued, adjusted + amount, events + 1);
+    }
+}
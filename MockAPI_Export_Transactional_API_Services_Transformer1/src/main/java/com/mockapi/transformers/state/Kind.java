@@ -0,0 +1,16 @@
+package com.mockapi.transformers.state;
+
+/**
+ * Kinds of transaction tracked by the {@link TransactionStore}; each has its own key space.
+ */
+public enum Kind {
+
+    /** Keyed by {@code fircNumber}. */
+    FIRC,
+
+    /** Keyed by {@code irmNumber}. */
+    IRM,
+
+    /** Keyed by {@code portCode/shippingBillNo} (or {@code formNo} for SOFTEX). */
+    SHIPPING_BILL
+}
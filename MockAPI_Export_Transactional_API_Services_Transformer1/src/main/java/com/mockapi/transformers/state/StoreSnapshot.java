@@ -0,0 +1,98 @@
+package com.mockapi.transformers.state;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary snapshot of a {@link TransactionStore}, written and read through a
+ * memory-mapped file.
+ *
+ * Layout: magic, version, record count, then per record
+ * {@code kind:byte keyLength:short key:UTF-8 issued:long adjusted:long events:int}.
+ * A new snapshot is written next to the file and moved over it, so a crash
+ * never leaves a half-written snapshot behind.
+ */
+final class StoreSnapshot {
+
+    private static final int MAGIC = 0x4D41_5453;
+    private static final int VERSION = 1;
+    private static final int HEADER = 4 + 4 + 8;
+    private static final int FIXED = 1 + 2 + 8 + 8 + 4;
+
+    private static final Kind[] KINDS = Kind.values();
+
+    private StoreSnapshot() {
+    }
+
+    static long write(Path file, TransactionStore store) throws IOException {
+        List<byte[]> keys = new ArrayList<>();
+        List<Balance> balances = new ArrayList<>();
+        List<Kind> kinds = new ArrayList<>();
+        long[] size = {HEADER};
+
+        for (Kind kind : KINDS) {
+            store.forEach(kind, (key, balance) -> {
+                byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+                if (bytes.length <= Short.MAX_VALUE) {
+                    keys.add(bytes);
+                    balances.add(balance);
+                    kinds.add(kind);
+                    size[0] += FIXED + bytes.length;
+                }
+            });
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+
+            MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0, size[0]);
+            out.putInt(MAGIC).putInt(VERSION).putLong(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                Balance balance = balances.get(i);
+                out.put((byte) kinds.get(i).ordinal())
+                   .putShort((short) keys.get(i).length)
+                   .put(keys.get(i))
+                   .putLong(balance.getIssued())
+                   .putLong(balance.getAdjusted())
+                   .putInt(balance.getEvents());
+            }
+            out.force();
+        }
+
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return keys.size();
+    }
+
+    static long read(Path file, TransactionStore store) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (in.remaining() < HEADER || in.getInt() != MAGIC || in.getInt() != VERSION) {
+                throw new IOException("not a transaction snapshot");
+            }
+
+            long count = in.getLong();
+            byte[] key = new byte[256];
+            for (long i = 0; i < count; i++) {
+                Kind kind = KINDS[in.get()];
+                int length = in.getShort();
+                if (length > key.length) {
+                    key = new byte[length];
+                }
+                in.get(key, 0, length);
+                store.put(kind, new String(key, 0, length, StandardCharsets.UTF_8),
+                        new Balance(in.getLong(), in.getLong(), in.getInt()));
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.mockapi.transformers.state;
+
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.mockapi.transformers.common.FieldValues;
+import com.mockapi.transformers.validation.ErrorCodes;
+import com.mockapi.transformers.validation.ViolationListener;
+
+/**
+ * Cross-request checks of the export transaction lifecycle against the
+ * {@link TransactionStore}:
+ * <ul>
+ *   <li>eFIRC issuance registers the FIRC once and adds its amount to the IRM; a
+ *       retried issuance changes nothing, one with another amount fails;</li>
+ *   <li>eFIRC and IRM adjustments need an issued FIRC/IRM and may not exceed its remaining amount;</li>
+ *   <li>IRM extensions need a known IRM;</li>
+ *   <li>shipping-bill adjustments and extensions are recorded (no issuance service exists in this mock).</li>
+ * </ul>
+ *
+ * The checks run only for mappings whose {@code transformerParameters} set
+ * {@code "stateful": true}, or for all when {@code -Dmockapi.stateful=true}.
+ * They run after the field rules have passed.
+ */
+public final class TransactionLifecycle {
+
+    /** Decimals kept for amounts. */
+    public static final int SCALE = 4;
+
+    private static final boolean DEFAULT_ENABLED = Boolean.getBoolean("mockapi.stateful");
+
+    private static final TransactionStore store = TransactionStore.getInstance();
+
+    /** A lifecycle error with its code numbered in advance, see {@link ErrorCodes}. */
+    private static final class Failure {
+
+        final int codeId;
+        final String code;
+        final String description;
+
+        Failure(String code, String description) {
+            this.codeId = ErrorCodes.id(code);
+            this.code = code;
+            this.description = description;
+        }
+
+        void report(ViolationListener listener) {
+            listener.onViolation(codeId, code, description);
+        }
+    }
+
+    private static final Failure FIRC_ALREADY_ISSUED =
+            new Failure("EF_STA_003", "FIRC Number has already been issued with a different FIRC Amount");
+    private static final Failure FIRC_NOT_ISSUED =
+            new Failure("EF_STA_001", "FIRC Number has not been issued");
+    private static final Failure FIRC_EXCEEDED =
+            new Failure("EF_STA_002", "Adjusted Amount exceeds the remaining FIRC Amount");
+    private static final Failure IRM_NOT_FOUND =
+            new Failure("IM_STA_001", "IRM Number not found");
+    private static final Failure IRM_EXCEEDED =
+            new Failure("IM_STA_002", "Adjusted Amount exceeds the remaining IRM Amount");
+
+    private TransactionLifecycle() {
+    }
+
+    public static boolean isEnabled(Parameters parameters) {
+        return parameters == null
+                ? DEFAULT_ENABLED
+                : parameters.getBoolean("stateful", DEFAULT_ENABLED);
+    }
+
+    // ---------- eFIRC ----------
+
+    public static boolean issueFirc(FieldValues input, ViolationListener listener) {
+        long amount = Math.max(0, parseAmount(input.get("fircAmount")));
+        switch (store.issue(Kind.FIRC, input.text("fircNumber").trim(), amount)) {
+            case CONFLICT:
+                FIRC_ALREADY_ISSUED.report(listener);
+                return false;
+            case REPEATED:
+                // a retry: the IRM already holds this FIRC's amount
+                return true;
+            default:
+                break;
+        }
+
+        String irmNumber = input.text("irmNumber").trim();
+        if (!irmNumber.isEmpty()) {
+            store.addIssued(Kind.IRM, irmNumber, amount);
+        }
+        return true;
+    }
+
+    public static boolean adjustFirc(FieldValues input, ViolationListener listener) {
+        return adjust(Kind.FIRC, input.text("fircNumber").trim(), input.get("adjustedAmount"), listener,
+                FIRC_NOT_ISSUED, FIRC_EXCEEDED);
+    }
+
+    // ---------- IRM ----------
+
+    public static boolean adjustIrm(FieldValues input, ViolationListener listener) {
+        return adjust(Kind.IRM, input.text("irmNumber").trim(), input.get("adjustedAmount"), listener,
+                IRM_NOT_FOUND, IRM_EXCEEDED);
+    }
+
+    public static boolean extendIrm(FieldValues input, ViolationListener listener) {
+        String irmNumber = input.text("irmNumber").trim();
+        if (store.get(Kind.IRM, irmNumber) == null) {
+            IRM_NOT_FOUND.report(listener);
+            return false;
+        }
+        store.touch(Kind.IRM, irmNumber);
+        return true;
+    }
+
+    // ---------- Shipping Bill ----------
+
+    public static void recordShippingBill(FieldValues input) {
+        String number = "2".equals(input.text("exportType").trim())
+                ? input.text("formNo").trim()
+                : input.text("shippingBillNo").trim();
+        store.touch(Kind.SHIPPING_BILL, input.text("portCode").trim() + "/" + number);
+    }
+
+    // ---------- Helpers ----------
+
+    private static boolean adjust(Kind kind,
+                                  String key,
+                                  String amountText,
+                                  ViolationListener listener,
+                                  Failure notFound,
+                                  Failure exceeds) {
+
+        long amount = Math.max(0, parseAmount(amountText));
+        switch (store.adjust(kind, key, amount)) {
+            case NOT_FOUND:
+                notFound.report(listener);
+                return false;
+            case EXCEEDS_BALANCE:
+                exceeds.report(listener);
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Parses a plain decimal such as {@code 1500.00} into a fixed-point long
+     * with {@link #SCALE} decimals; extra decimals are truncated. Returns -1
+     * when the text is not a non-negative decimal.
+     */
+    static long parseAmount(String text) {
+        if (text == null) {
+            return -1;
+        }
+        int start = 0;
+        int end = text.length();
+        while (start < end && text.charAt(start) <= ' ') start++;
+        while (end > start && text.charAt(end - 1) <= ' ') end--;
+        if (start == end) {
+            return -1;
+        }
+
+        long value = 0;
+        int decimals = -1;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == '.' && decimals < 0) {
+                decimals = 0;
+            } else if (c >= '0' && c <= '9') {
+                if (decimals >= SCALE) {
+                    continue;
+                }
+                if (value > (Long.MAX_VALUE - 9) / 10) {
+                    return -1;
+                }
+                value = value * 10 + (c - '0');
+                if (decimals >= 0) {
+                    decimals++;
+                }
+            } else {
+                return -1;
+            }
+        }
+
+        for (int d = Math.max(decimals, 0); d < SCALE; d++) {
+            value *= 10;
+        }
+        return value;
+    }
+}
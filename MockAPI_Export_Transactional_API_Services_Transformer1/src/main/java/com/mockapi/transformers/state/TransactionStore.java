@@ -0,0 +1,206 @@
+package com.mockapi.transformers.state;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * Concurrent in-memory state of issued and adjusted transactions, one map per
+ * {@link Kind}. Updates go through {@link ConcurrentHashMap#compute}, which
+ * locks only the key's bin, and replace the immutable {@link Balance}.
+ *
+ * When {@code -Dmockapi.state.file} is set the store is loaded from that
+ * memory-mapped snapshot at startup and written back every
+ * {@code -Dmockapi.state.snapshotSeconds} (default 30) while it has changes,
+ * and on shutdown.
+ */
+public final class TransactionStore {
+
+    private static final Logger logger =
+            LogManager.getLogger(TransactionStore.class);
+
+    /** Result of {@link #issue}. */
+    public enum Issuance {
+        ISSUED,
+        REPEATED,
+        CONFLICT
+    }
+
+    /** Result of {@link #adjust}. */
+    public enum Adjustment {
+        APPLIED,
+        NOT_FOUND,
+        EXCEEDS_BALANCE
+    }
+
+    private static final int SHUTDOWN_WAIT_SECONDS = 10;
+
+    private static final class Holder {
+        private static final TransactionStore INSTANCE = create();
+    }
+
+    public static TransactionStore getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private final ConcurrentHashMap<String, Balance>[] maps = newMaps(Kind.values().length);
+    private final AtomicLong changes = new AtomicLong();
+
+    TransactionStore() {
+        for (int i = 0; i < maps.length; i++) {
+            maps[i] = new ConcurrentHashMap<>(1024);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConcurrentHashMap<String, Balance>[] newMaps(int size) {
+        return (ConcurrentHashMap<String, Balance>[]) new ConcurrentHashMap<?, ?>[size];
+    }
+
+    private static TransactionStore create() {
+        TransactionStore store = new TransactionStore();
+        String file = System.getProperty("mockapi.state.file");
+        if (file != null) {
+            store.persistTo(Paths.get(file), Integer.getInteger("mockapi.state.snapshotSeconds", 30));
+        }
+        return store;
+    }
+
+    public Balance get(Kind kind, String key) {
+        return maps[kind.ordinal()].get(key);
+    }
+
+    /**
+     * Issues a transaction of {@code amount} once. Issuing it again with the
+     * same amount is a retry and changes nothing; another amount is a conflict.
+     */
+    public Issuance issue(Kind kind, String key, long amount) {
+        Issuance[] result = {Issuance.ISSUED};
+        maps[kind.ordinal()].compute(key, (k, balance) -> {
+            if (balance == null) {
+                return new Balance(amount, 0, 1);
+            }
+            result[0] = balance.getIssued() == amount ? Issuance.REPEATED : Issuance.CONFLICT;
+            return balance;
+        });
+        if (result[0] == Issuance.ISSUED) {
+            changes.incrementAndGet();
+        }
+        return result[0];
+    }
+
+    /** Adds {@code amount} to the transaction's issued amount, creating it if needed. */
+    public Balance addIssued(Kind kind, String key, long amount) {
+        changes.incrementAndGet();
+        return maps[kind.ordinal()].compute(key, (k, balance) ->
+                balance == null ? new Balance(amount, 0, 1) : balance.plusIssued(amount));
+    }
+
+    /**
+     * Adjusts an existing transaction by {@code amount}, unless the
+     * transaction is unknown or the adjustment exceeds its remaining balance.
+     */
+    public Adjustment adjust(Kind kind, String key, long amount) {
+        Adjustment[] result = {Adjustment.NOT_FOUND};
+        maps[kind.ordinal()].computeIfPresent(key, (k, balance) -> {
+            if (amount > balance.remaining()) {
+                result[0] = Adjustment.EXCEEDS_BALANCE;
+                return balance;
+            }
+            result[0] = Adjustment.APPLIED;
+            return balance.plusAdjusted(amount);
+        });
+        if (result[0] == Adjustment.APPLIED) {
+            changes.incrementAndGet();
+        }
+        return result[0];
+    }
+
+    /** Counts an event on the transaction without changing amounts. */
+    public void touch(Kind kind, String key) {
+        changes.incrementAndGet();
+        maps[kind.ordinal()].compute(key, (k, balance) ->
+                balance == null ? new Balance(0, 0, 1) : balance.plusAdjusted(0));
+    }
+
+    public int size(Kind kind) {
+        return maps[kind.ordinal()].size();
+    }
+
+    public void clear() {
+        for (Map<String, Balance> map : maps) {
+            map.clear();
+        }
+        changes.incrementAndGet();
+    }
+
+    void forEach(Kind kind, BiConsumer<String, Balance> action) {
+        maps[kind.ordinal()].forEach(action);
+    }
+
+    void put(Kind kind, String key, Balance balance) {
+        maps[kind.ordinal()].put(key, balance);
+    }
+
+    // ---------- Persistence ----------
+
+    private void persistTo(Path file, int snapshotSeconds) {
+        if (Files.exists(file)) {
+            try {
+                long start = System.nanoTime();
+                long loaded = StoreSnapshot.read(file, this);
+                logger.info("Loaded {} transactions from {} in {} ms",
+                        loaded, file, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Ignoring unreadable transaction snapshot " + file + ": " + e);
+            }
+        }
+
+        // one writer at a time: the periodic and the shutdown snapshot share the .tmp file
+        long[] saved = {changes.get()};
+        Runnable snapshot = () -> {
+            synchronized (saved) {
+                long current = changes.get();
+                if (current == saved[0]) {
+                    return;
+                }
+                try {
+                    StoreSnapshot.write(file, this);
+                    saved[0] = current;
+                } catch (IOException e) {
+                    logger.warn("Transaction snapshot to " + file + " failed: " + e);
+                }
+            }
+        };
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "transaction-store-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(snapshot, snapshotSeconds, snapshotSeconds, TimeUnit.SECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            // let a running snapshot finish before taking the final one
+            scheduler.shutdown();
+            try {
+                if (!scheduler.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                    logger.warn("Transaction snapshot still running after {} s", SHUTDOWN_WAIT_SECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            snapshot.run();
+        }, "transaction-store-shutdown"));
+    }
+}
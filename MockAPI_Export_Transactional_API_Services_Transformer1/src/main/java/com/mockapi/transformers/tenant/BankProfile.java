@@ -0,0 +1,70 @@
+package com.mockapi.transformers.tenant;
+
+import com.mockapi.transformers.common.ResponseTemplate;
+import com.mockapi.transformers.common.ResponseTemplateCache;
+import com.mockapi.transformers.validation.ServiceRules;
+import com.mockapi.transformers.validation.ValidationRules;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The rules and templates one bank is served with.
+ *
+ * A bank overrides only what its {@code banks/<bank>/} directory contains: services
+ * missing from its {@code validation-rules.json} use the default rules, and files
+ * missing from its {@code __files/} the default templates. {@link #DEFAULT} serves
+ * every bank without a directory.
+ */
+public final class BankProfile {
+
+    public static final BankProfile DEFAULT =
+            new BankProfile(null, Collections.emptyMap(), ResponseTemplateCache.getInstance());
+
+    private final String name;
+    private final Map<String, ServiceRules> rules;
+    private final ResponseTemplateCache templates;
+    // replay keys, so responses replayed for one bank are never served to another
+    private final Map<String, String> replayKeys = new HashMap<>();
+    private volatile long lastUsed = System.currentTimeMillis();
+
+    BankProfile(String name, Map<String, ServiceRules> rules, ResponseTemplateCache templates) {
+        this.name = name;
+        this.rules = rules;
+        this.templates = templates;
+        for (String service : ValidationRules.services()) {
+            replayKeys.put(service, name == null ? service : name + '/' + service);
+        }
+    }
+
+    /** The bank's directory name, null for {@link #DEFAULT}. */
+    public String getName() {
+        return name;
+    }
+
+    /** The bank's own rules for the service, or {@code defaults}. */
+    public ServiceRules rules(ServiceRules defaults) {
+        ServiceRules own = rules.get(defaults.getService());
+        return own != null ? own : defaults;
+    }
+
+    public ResponseTemplate template(String fileName) throws IOException {
+        return templates.get(fileName);
+    }
+
+    /** The service key replayed responses of this bank are stored under. */
+    public String replayKey(String service) {
+        String key = replayKeys.get(service);
+        return key != null ? key : service;
+    }
+
+    long getLastUsed() {
+        return lastUsed;
+    }
+
+    void touch(long now) {
+        lastUsed = now;
+    }
+}
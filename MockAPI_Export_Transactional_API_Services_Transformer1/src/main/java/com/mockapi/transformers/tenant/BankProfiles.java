@@ -0,0 +1,165 @@
+package com.mockapi.transformers.tenant;
+
+import com.mockapi.transformers.common.ResponseTemplateCache;
+import com.mockapi.transformers.validation.ServiceRules;
+import com.mockapi.transformers.validation.ValidationRules;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The bank profiles under {@code <mockapi.root>/banks/}, one directory per bank
+ * path segment ({@code /trracsapiserv/<bank>/apiservices/...}).
+ *
+ * Only the directory names are read at startup. A profile's rules and templates
+ * are loaded on the bank's first request and dropped again once the bank has
+ * been idle for {@code -Dmockapi.bank.idleMillis} (default 600000). The same
+ * background sweep picks up bank directories added or removed since.
+ */
+public final class BankProfiles {
+
+    private static final Logger logger =
+            LogManager.getLogger(BankProfiles.class);
+
+    static final String RULES_FILE = "validation-rules.json";
+    static final String FILES_DIR = "__files";
+
+    // lastUsed is only rewritten when it is older than this
+    private static final long TOUCH_MILLIS = 1000;
+
+    private static final class Holder {
+        private static final BankProfiles INSTANCE = create();
+    }
+
+    public static BankProfiles getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private final Path banksDir;
+    private final long idleMillis;
+    private final ConcurrentHashMap<String, BankProfile> loaded = new ConcurrentHashMap<>();
+    private volatile Set<String> banks;
+
+    BankProfiles(Path banksDir, long idleMillis) {
+        this.banksDir = banksDir;
+        this.idleMillis = idleMillis;
+        this.banks = scan();
+    }
+
+    private static BankProfiles create() {
+        BankProfiles profiles = new BankProfiles(
+                Paths.get(System.getProperty("mockapi.root", ".")).resolve("banks"),
+                Long.getLong("mockapi.bank.idleMillis", 600_000));
+
+        long period = Math.max(1000, Math.min(60_000, profiles.idleMillis / 2));
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "bank-profile-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(profiles::sweep, period, period, TimeUnit.MILLISECONDS);
+        return profiles;
+    }
+
+    /**
+     * Names of the bank directories. The set is replaced, never modified, when
+     * directories come or go, so callers can compare it by identity.
+     */
+    public Set<String> banks() {
+        return banks;
+    }
+
+    /** The bank's profile, loading it on first use; {@link BankProfile#DEFAULT} for null or unknown banks. */
+    public BankProfile forBank(String bank) {
+        if (bank == null || !banks.contains(bank)) {
+            return BankProfile.DEFAULT;
+        }
+
+        BankProfile profile = loaded.get(bank);
+        if (profile == null) {
+            profile = loaded.computeIfAbsent(bank, this::load);
+        }
+
+        long now = System.currentTimeMillis();
+        if (now - profile.getLastUsed() > TOUCH_MILLIS) {
+            profile.touch(now);
+        }
+        return profile;
+    }
+
+    /** Number of bank profiles currently in memory. */
+    public int loadedCount() {
+        return loaded.size();
+    }
+
+    // ---------- Loading ----------
+
+    private BankProfile load(String bank) {
+        Path dir = banksDir.resolve(bank);
+
+        Map<String, ServiceRules> rules = Collections.emptyMap();
+        Path rulesFile = dir.resolve(RULES_FILE);
+        if (Files.isRegularFile(rulesFile)) {
+            try {
+                rules = ValidationRules.load(rulesFile);
+            } catch (IOException | RuntimeException e) {
+                logger.error("Bank " + bank + " uses the default rules, " + rulesFile + " could not be loaded", e);
+            }
+        }
+
+        Path filesDir = dir.resolve(FILES_DIR);
+        ResponseTemplateCache templates = Files.isDirectory(filesDir)
+                ? ResponseTemplateCache.getInstance().overlay(filesDir)
+                : ResponseTemplateCache.getInstance();
+
+        logger.info("Loaded bank profile {} ({} service rule overrides)", bank, rules.size());
+        return new BankProfile(bank, rules, templates);
+    }
+
+    private Set<String> scan() {
+        Set<String> names = new TreeSet<>();
+        if (Files.isDirectory(banksDir)) {
+            try (DirectoryStream<Path> dirs = Files.newDirectoryStream(banksDir, Files::isDirectory)) {
+                for (Path dir : dirs) {
+                    names.add(dir.getFileName().toString());
+                }
+            } catch (IOException e) {
+                logger.warn("Unable to list bank profiles in " + banksDir + ": " + e);
+            }
+        }
+        return Collections.unmodifiableSet(names);
+    }
+
+    // ---------- Eviction ----------
+
+    void sweep() {
+        long idleSince = System.currentTimeMillis() - idleMillis;
+        loaded.values().removeIf(profile -> {
+            if (profile.getLastUsed() < idleSince) {
+                logger.info("Evicted idle bank profile {}", profile.getName());
+                return true;
+            }
+            return false;
+        });
+
+        Set<String> current = scan();
+        if (!current.equals(banks)) {
+            loaded.keySet().retainAll(current);
+            banks = current;
+            logger.info("Bank profiles changed, now {}", current);
+        }
+    }
+}
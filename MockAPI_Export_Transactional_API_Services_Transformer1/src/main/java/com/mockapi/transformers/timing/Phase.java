@@ -0,0 +1,38 @@
+package com.mockapi.transformers.timing;
+
+/**
+ * A step of a transform call timed by {@link PhaseTimer}, in the order the
+ * steps run. A phase ends where the next one is marked.
+ */
+public enum Phase {
+
+    /** Finding the service and bank of the URL (router only). */
+    ROUTE,
+
+    /** Error injection and the replay cache lookup. */
+    REPLAY,
+
+    /** Streaming parse of the request body. */
+    PARSE,
+
+    /** Rules and lifecycle checks. */
+    VALIDATE,
+
+    /** Template lookup, rendering and storing the replay copy. */
+    RENDER,
+
+    /** Metrics, journal and audit log records. */
+    AUDIT,
+
+    /** Gzip encoding of the body. */
+    ENCODE,
+
+    /** Building WireMock's response; only in captured slow requests. */
+    RESPONSE;
+
+    private final String label = name().toLowerCase();
+
+    public String label() {
+        return label;
+    }
+}
@@ -0,0 +1,153 @@
+package com.mockapi.transformers.timing;
+
+import com.mockapi.transformers.common.FieldValues;
+import com.mockapi.transformers.common.Outcome;
+
+import java.util.Arrays;
+
+/**
+ * Phase timing of the transform call running on the calling thread, enabled
+ * with {@code -Dmockapi.timing=true}.
+ *
+ * A transformer calls {@link #begin} and {@link #end}; the steps in between
+ * {@link #mark} the end of each {@link Phase}. The phases so far go out as a
+ * {@code Server-Timing} header, and calls slower than
+ * {@code -Dmockapi.timing.slowMillis} (default 50) are kept in the
+ * {@link SlowRequestLog}.
+ *
+ * When timing is disabled every method returns at once, without reading the
+ * clock or allocating. Each thread reuses one timer.
+ */
+public final class PhaseTimer {
+
+    public static final boolean ENABLED = Boolean.getBoolean("mockapi.timing");
+
+    static final long SLOW_NANOS =
+            Long.getLong("mockapi.timing.slowMillis", 50) * 1_000_000;
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private static final ThreadLocal<PhaseTimer> local =
+            ThreadLocal.withInitial(PhaseTimer::new);
+
+    private final long[] nanos = new long[PHASES.length];
+    private int marked;
+    private boolean active;
+    private long startNanos;
+    private long lastNanos;
+    private Outcome outcome;
+    private FieldValues requestHeader;
+
+    private PhaseTimer() {
+    }
+
+    /** Starts timing a transform call on the calling thread. */
+    public static void begin() {
+        if (!ENABLED) {
+            return;
+        }
+        PhaseTimer timer = local.get();
+        Arrays.fill(timer.nanos, 0);
+        timer.marked = 0;
+        timer.outcome = null;
+        timer.requestHeader = null;
+        timer.active = true;
+        timer.startNanos = System.nanoTime();
+        timer.lastNanos = timer.startNanos;
+    }
+
+    /** Ends {@code phase}: the time since the previous mark is added to it. */
+    public static void mark(Phase phase) {
+        if (!ENABLED) {
+            return;
+        }
+        PhaseTimer timer = local.get();
+        if (timer.active) {
+            long now = System.nanoTime();
+            timer.nanos[phase.ordinal()] += now - timer.lastNanos;
+            timer.marked |= 1 << phase.ordinal();
+            timer.lastNanos = now;
+        }
+    }
+
+    /** The outcome and request reported for a slow capture. */
+    public static void describe(Outcome outcome, FieldValues requestHeader) {
+        if (!ENABLED) {
+            return;
+        }
+        PhaseTimer timer = local.get();
+        timer.outcome = outcome;
+        timer.requestHeader = requestHeader;
+    }
+
+    /**
+     * The {@code Server-Timing} header value for the phases marked so far,
+     * e.g. {@code parse;dur=0.182, validate;dur=0.041, total;dur=0.264}, or
+     * null when no call is being timed.
+     */
+    public static String serverTiming() {
+        if (!ENABLED) {
+            return null;
+        }
+        PhaseTimer timer = local.get();
+        if (!timer.active) {
+            return null;
+        }
+
+        StringBuilder header = new StringBuilder(160);
+        for (Phase phase : PHASES) {
+            if ((timer.marked & 1 << phase.ordinal()) != 0) {
+                appendMetric(header, phase.label(), timer.nanos[phase.ordinal()]);
+            }
+        }
+        appendMetric(header, "total", timer.lastNanos - timer.startNanos);
+        return header.toString();
+    }
+
+    /**
+     * Ends the call after its response is built, capturing it if it was slow.
+     *
+     * @param transformer name of the transformer that served the call
+     */
+    public static void end(String transformer) {
+        if (!ENABLED) {
+            return;
+        }
+        PhaseTimer timer = local.get();
+        if (!timer.active) {
+            return;
+        }
+        mark(Phase.RESPONSE);
+        timer.active = false;
+
+        long total = timer.lastNanos - timer.startNanos;
+        if (total >= SLOW_NANOS) {
+            SlowRequestLog.getInstance().add(new SlowRequest(
+                    System.currentTimeMillis(), transformer,
+                    timer.requestHeader == null ? null : timer.requestHeader.get("request-id"),
+                    timer.requestHeader == null ? null : timer.requestHeader.get("service-name"),
+                    timer.outcome, total, timer.nanos.clone(), timer.marked));
+        }
+        timer.requestHeader = null;
+    }
+
+    // ---------- Helpers ----------
+
+    /** Appends {@code name;dur=<milliseconds to 3 decimals>} without formatting. */
+    static void appendMetric(StringBuilder header, String name, long nanos) {
+        long micros = nanos / 1000;
+        long fraction = micros % 1000;
+
+        if (header.length() > 0) {
+            header.append(", ");
+        }
+        header.append(name).append(";dur=").append(micros / 1000).append('.');
+        if (fraction < 100) {
+            header.append('0');
+        }
+        if (fraction < 10) {
+            header.append('0');
+        }
+        header.append(fraction);
+    }
+}
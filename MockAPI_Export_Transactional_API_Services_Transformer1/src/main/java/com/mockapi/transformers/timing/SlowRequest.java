@@ -0,0 +1,71 @@
+package com.mockapi.transformers.timing;
+
+import com.mockapi.transformers.common.Outcome;
+
+/**
+ * A transform call captured by {@link PhaseTimer} for taking longer than the
+ * slow threshold, with its time per {@link Phase}.
+ */
+public final class SlowRequest {
+
+    private final long timestamp;
+    private final String transformer;
+    private final String requestId;
+    private final String serviceName;
+    private final Outcome outcome;
+    private final long totalNanos;
+    private final long[] phaseNanos;
+    private final int marked;
+
+    SlowRequest(long timestamp,
+                String transformer,
+                String requestId,
+                String serviceName,
+                Outcome outcome,
+                long totalNanos,
+                long[] phaseNanos,
+                int marked) {
+        this.timestamp = timestamp;
+        this.transformer = transformer;
+        this.requestId = requestId;
+        this.serviceName = serviceName;
+        this.outcome = outcome;
+        this.totalNanos = totalNanos;
+        this.phaseNanos = phaseNanos;
+        this.marked = marked;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public String getTransformer() {
+        return transformer;
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    /** Null if the call ended before a handler answered, e.g. an unknown service. */
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /** Whether the call went through the phase. */
+    public boolean hasPhase(Phase phase) {
+        return (marked & 1 << phase.ordinal()) != 0;
+    }
+
+    public long getPhaseNanos(Phase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+}
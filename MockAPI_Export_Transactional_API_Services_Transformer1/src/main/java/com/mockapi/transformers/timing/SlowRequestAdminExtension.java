@@ -0,0 +1,87 @@
+package com.mockapi.transformers.timing;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.tomakehurst.wiremock.admin.Router;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.extension.AdminApiExtension;
+import com.github.tomakehurst.wiremock.http.QueryParameter;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.mockapi.transformers.common.Json;
+
+import java.time.Instant;
+
+/**
+ * Reads the {@link SlowRequestLog}, newest first:
+ * {@code GET /__admin/mockapi/slow-requests?limit=}. {@code DELETE} on the same
+ * path empties it.
+ */
+public class SlowRequestAdminExtension implements AdminApiExtension {
+
+    private static final int DEFAULT_LIMIT = 50;
+
+    @Override
+    public String getName() {
+        return "mockapi-slow-requests";
+    }
+
+    @Override
+    public void contributeAdminApiRoutes(Router router) {
+        router.add(RequestMethod.GET, "/mockapi/slow-requests",
+                (admin, serveEvent, pathParams) -> query(serveEvent.getRequest()));
+        router.add(RequestMethod.DELETE, "/mockapi/slow-requests",
+                (admin, serveEvent, pathParams) -> {
+                    SlowRequestLog.getInstance().clear();
+                    return json(200, "{\"cleared\":true}");
+                });
+    }
+
+    private static ResponseDefinition query(Request request) {
+        SlowRequestLog log = SlowRequestLog.getInstance();
+
+        int limit;
+        QueryParameter parameter = request.queryParameter("limit");
+        try {
+            limit = parameter != null && parameter.isPresent()
+                    ? Integer.parseInt(parameter.firstValue())
+                    : DEFAULT_LIMIT;
+        } catch (NumberFormatException e) {
+            return json(400, "{\"error\":\"limit must be a number\"}");
+        }
+
+        ObjectNode root = Json.object();
+        root.put("enabled", PhaseTimer.ENABLED);
+        root.put("thresholdMillis", log.thresholdMillis());
+        root.put("capacity", log.capacity());
+        root.put("captured", log.captured());
+
+        ArrayNode items = root.putArray("requests");
+        for (SlowRequest slow : log.recent(limit)) {
+            ObjectNode node = items.addObject();
+            node.put("timestamp", Instant.ofEpochMilli(slow.getTimestamp()).toString());
+            node.put("transformer", slow.getTransformer());
+            node.put("requestId", slow.getRequestId());
+            node.put("service", slow.getServiceName());
+            node.put("outcome", slow.getOutcome() == null ? null : slow.getOutcome().label());
+            node.put("totalMicros", slow.getTotalNanos() / 1000);
+
+            ObjectNode phases = node.putObject("phaseMicros");
+            for (Phase phase : Phase.values()) {
+                if (slow.hasPhase(phase)) {
+                    phases.put(phase.label(), slow.getPhaseNanos(phase) / 1000);
+                }
+            }
+        }
+        return json(200, root.toString());
+    }
+
+    private static ResponseDefinition json(int status, String body) {
+        return new ResponseDefinitionBuilder()
+                .withStatus(status)
+                .withHeader("Content-Type", "application/json")
+                .withBody(body)
+                .build();
+    }
+}
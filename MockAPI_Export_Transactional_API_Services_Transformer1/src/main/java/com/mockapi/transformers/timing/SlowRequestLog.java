@@ -0,0 +1,70 @@
+package com.mockapi.transformers.timing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The most recent slow transform calls in a fixed-size ring buffer of
+ * {@code -Dmockapi.timing.slowCapacity} entries (default 128); older captures
+ * are overwritten.
+ */
+public final class SlowRequestLog {
+
+    private static final class Holder {
+        private static final SlowRequestLog INSTANCE =
+                new SlowRequestLog(Integer.getInteger("mockapi.timing.slowCapacity", 128));
+    }
+
+    public static SlowRequestLog getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private final AtomicReferenceArray<SlowRequest> slots;
+    private final AtomicLong next = new AtomicLong();
+
+    SlowRequestLog(int capacity) {
+        this.slots = new AtomicReferenceArray<>(Math.max(1, capacity));
+    }
+
+    void add(SlowRequest request) {
+        long sequence = next.getAndIncrement();
+        slots.set((int) (sequence % slots.length()), request);
+    }
+
+    /** Up to {@code limit} captures, newest first. */
+    public List<SlowRequest> recent(int limit) {
+        long end = next.get();
+        long start = Math.max(0, end - Math.min(limit, slots.length()));
+
+        List<SlowRequest> result = new ArrayList<>((int) (end - start));
+        for (long sequence = end - 1; sequence >= start; sequence--) {
+            SlowRequest request = slots.get((int) (sequence % slots.length()));
+            if (request != null) {
+                result.add(request);
+            }
+        }
+        return result;
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    /** Slow calls captured since start-up or the last {@link #clear}, including overwritten ones. */
+    public long captured() {
+        return next.get();
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+        next.set(0);
+    }
+
+    public long thresholdMillis() {
+        return PhaseTimer.SLOW_NANOS / 1_000_000;
+    }
+}
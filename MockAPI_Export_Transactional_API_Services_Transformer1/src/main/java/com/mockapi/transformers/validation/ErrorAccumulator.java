@@ -0,0 +1,111 @@
+package com.mockapi.transformers.validation;
+
+import com.mockapi.transformers.common.JsonFragment;
+import com.mockapi.transformers.common.ResponseBuffer;
+
+import java.util.Arrays;
+
+/**
+ * Collects every failed rule of a request, in report order, and writes them
+ * into a fail response as {@code "CODE_1,CODE_2"} and
+ * {@code "Description 1. Description 2."} (see {@link ErrorDescriptions}).
+ *
+ * Only references to the precomputed codes and descriptions are kept; nothing
+ * is concatenated until the values are written into the response buffer. The
+ * {@link ErrorCodes} id of the first code selects the fail template.
+ * Each thread reuses a single accumulator (see {@link #begin}), so one must
+ * not be kept past the request that began it.
+ */
+public final class ErrorAccumulator implements ViolationListener {
+
+    private static final ThreadLocal<ErrorAccumulator> local =
+            ThreadLocal.withInitial(ErrorAccumulator::new);
+
+    private String[] codes = new String[16];
+    private String[] descriptions = new String[16];
+    private int count;
+    private int firstCode = -1;
+    private ViolationListener next;
+
+    private final JsonFragment codeList = out -> writeCodes(out);
+    private final JsonFragment descriptionList = out -> writeDescriptions(out);
+
+    private ErrorAccumulator() {
+    }
+
+    /** The calling thread's accumulator, emptied, forwarding every violation to {@code next}. */
+    public static ErrorAccumulator begin(ViolationListener next) {
+        ErrorAccumulator errors = local.get();
+        Arrays.fill(errors.codes, 0, errors.count, null);
+        Arrays.fill(errors.descriptions, 0, errors.count, null);
+        errors.count = 0;
+        errors.firstCode = -1;
+        errors.next = next;
+        return errors;
+    }
+
+    @Override
+    public void onViolation(String code, String description) {
+        onViolation(ErrorCodes.id(code), code, description);
+    }
+
+    @Override
+    public void onViolation(int codeId, String code, String description) {
+        next.onViolation(codeId, code, description);
+
+        if (count == 0) {
+            firstCode = codeId;
+        }
+        if (count == codes.length) {
+            codes = Arrays.copyOf(codes, count * 2);
+            descriptions = Arrays.copyOf(descriptions, count * 2);
+        }
+        codes[count] = code;
+        descriptions[count] = description;
+        count++;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /** {@link ErrorCodes} id of the first reported code, -1 if there is none. */
+    public int firstCode() {
+        return firstCode;
+    }
+
+    /** The error codes as one JSON string, for the {@code error-code} slot. */
+    public JsonFragment codes() {
+        return codeList;
+    }
+
+    /** The descriptions as one JSON string, for the {@code error-desc} slot. */
+    public JsonFragment descriptions() {
+        return descriptionList;
+    }
+
+    // ---------- Helpers ----------
+
+    private void writeCodes(ResponseBuffer out) {
+        out.write((byte) '"');
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                out.write((byte) ',');
+            }
+            out.writeJsonChars(codes[i]);
+        }
+        out.write((byte) '"');
+    }
+
+    private void writeDescriptions(ResponseBuffer out) {
+        out.write((byte) '"');
+        for (int i = 0; i < count; i++) {
+            ErrorDescriptions.write(out, i, descriptions[i]);
+        }
+        out.write((byte) '"');
+    }
+}
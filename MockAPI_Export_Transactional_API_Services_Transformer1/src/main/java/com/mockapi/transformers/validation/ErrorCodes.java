@@ -0,0 +1,35 @@
+package com.mockapi.transformers.validation;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dense numbering of error codes ({@code EM_HDR_062}, {@code IM_STA_001}, ...),
+ * so that tables keyed by error code can be plain arrays.
+ *
+ * Codes are numbered from 0 in the order they are first seen, when rules,
+ * lifecycle checks and template tables are compiled; a code keeps its id for
+ * the life of the process.
+ */
+public final class ErrorCodes {
+
+    private static final Map<String, Integer> ids = new HashMap<>();
+
+    private ErrorCodes() {
+    }
+
+    /** The code's id, numbering it if it is new. */
+    public static synchronized int id(String code) {
+        Integer id = ids.get(code);
+        if (id == null) {
+            id = ids.size();
+            ids.put(code, id);
+        }
+        return id;
+    }
+
+    /** Number of codes seen so far; every id is below it. */
+    public static synchronized int count() {
+        return ids.size();
+    }
+}
@@ -0,0 +1,38 @@
+package com.mockapi.transformers.validation;
+
+import com.mockapi.transformers.common.ResponseBuffer;
+
+import java.util.List;
+
+/**
+ * The error description format of every fail response: each description a
+ * sentence ending in {@code .}, separated by one space, as in
+ * {@code "Description 1. Description 2."}. It is the format the eFIRC
+ * adjustment service has always answered with.
+ */
+final class ErrorDescriptions {
+
+    private ErrorDescriptions() {
+    }
+
+    /** Writes the {@code index}-th description of a list, inside an open JSON string. */
+    static void write(ResponseBuffer out, int index, String description) {
+        if (index > 0) {
+            out.write((byte) ' ');
+        }
+        out.writeJsonChars(description);
+        out.write((byte) '.');
+    }
+
+    /** The descriptions as one string. */
+    static String join(List<String> descriptions) {
+        StringBuilder joined = new StringBuilder();
+        for (int i = 0; i < descriptions.size(); i++) {
+            if (i > 0) {
+                joined.append(' ');
+            }
+            joined.append(descriptions.get(i)).append('.');
+        }
+        return joined.toString();
+    }
+}
@@ -0,0 +1,227 @@
+package com.mockapi.transformers.validation;
+
+import java.util.Currency;
+
+/**
+ * Value formats a rule can require on top of its length limits.
+ * Checks work on the trimmed region {@code [start, end)} of the raw value
+ * and never allocate.
+ *
+ * Rules name a format in lower case with dashes ({@code "format": "ad-code"}).
+ * {@link #DECIMAL} takes its limits from the rule's {@code precision} and
+ * {@code scale}; the other formats ignore them.
+ */
+public enum FieldFormat {
+
+    NONE {
+        @Override
+        boolean matches(String value, int start, int end, int precision, int scale) {
+            return true;
+        }
+
+        @Override
+        String hint(String label, int precision, int scale) {
+            return null;
+        }
+    },
+
+    /** A calendar date as dd/MM/yyyy; 31/04 and 29/02 of a non-leap year fail. */
+    DATE {
+        @Override
+        boolean matches(String value, int start, int end, int precision, int scale) {
+            if (end - start != 10
+                    || value.charAt(start + 2) != '/'
+                    || value.charAt(start + 5) != '/') {
+                return false;
+            }
+            int day = digits(value, start, 2);
+            int month = digits(value, start + 3, 2);
+            int year = digits(value, start + 6, 4);
+            return day > 0 && month >= 1 && month <= 12 && year > 0
+                    && day <= daysInMonth(month, year);
+        }
+
+        @Override
+        String hint(String label, int precision, int scale) {
+            return "Date Format should be in format dd/MM/yyyy";
+        }
+    },
+
+    /**
+     * Unsigned decimal with at most {@code precision} digits, {@code scale} of
+     * them after the point ({@code 1500}, {@code 1500.25}).
+     */
+    DECIMAL {
+        @Override
+        boolean matches(String value, int start, int end, int precision, int scale) {
+            int point = -1;
+            for (int i = start; i < end; i++) {
+                char c = value.charAt(i);
+                if (c == '.' && point < 0) {
+                    point = i;
+                } else if (c < '0' || c > '9') {
+                    return false;
+                }
+            }
+            int integerDigits = (point < 0 ? end : point) - start;
+            int fractionDigits = point < 0 ? 0 : end - point - 1;
+            return integerDigits > 0
+                    && (point < 0 || fractionDigits > 0)
+                    && fractionDigits <= scale
+                    && integerDigits <= precision - scale;
+        }
+
+        @Override
+        String hint(String label, int precision, int scale) {
+            return label + " should be a number with at most " + (precision - scale)
+                    + " digits before and " + scale + " after the decimal point";
+        }
+    },
+
+    /** ISO 4217 alphabetic currency code (USD, EUR, INR). */
+    CURRENCY {
+        @Override
+        boolean matches(String value, int start, int end, int precision, int scale) {
+            if (end - start != 3) {
+                return false;
+            }
+            int index = 0;
+            for (int i = start; i < end; i++) {
+                char c = value.charAt(i);
+                if (c < 'A' || c > 'Z') {
+                    return false;
+                }
+                index = index * 26 + (c - 'A');
+            }
+            return CurrencyCodes.KNOWN[index];
+        }
+
+        @Override
+        String hint(String label, int precision, int scale) {
+            return label + " should be an ISO 4217 currency code";
+        }
+    },
+
+    /** Authorised dealer code: 7 digits. */
+    AD_CODE {
+        @Override
+        boolean matches(String value, int start, int end, int precision, int scale) {
+            return end - start == 7 && allDigits(value, start, end);
+        }
+
+        @Override
+        String hint(String label, int precision, int scale) {
+            return label + " should be 7 digits";
+        }
+    },
+
+    /** Importer-exporter code: 10 upper case letters or digits. */
+    IE_CODE {
+        @Override
+        boolean matches(String value, int start, int end, int precision, int scale) {
+            return end - start == 10 && allUpperAlphanumeric(value, start, end);
+        }
+
+        @Override
+        String hint(String label, int precision, int scale) {
+            return label + " should be 10 upper case letters or digits";
+        }
+    },
+
+    /** Port code: 2 letter country code followed by 4 upper case letters or digits (INBOM4). */
+    PORT_CODE {
+        @Override
+        boolean matches(String value, int start, int end, int precision, int scale) {
+            return end - start == 6
+                    && isUpper(value.charAt(start))
+                    && isUpper(value.charAt(start + 1))
+                    && allUpperAlphanumeric(value, start + 2, end);
+        }
+
+        @Override
+        String hint(String label, int precision, int scale) {
+            return label + " should contain characters and numbers only and length should be 6";
+        }
+    };
+
+    static final int DEFAULT_PRECISION = 16;
+    static final int DEFAULT_SCALE = 4;
+
+    abstract boolean matches(String value, int start, int end, int precision, int scale);
+
+    /** The part of the format failure message after "invalid &lt;label&gt; data", or null. */
+    abstract String hint(String label, int precision, int scale);
+
+    static FieldFormat fromName(String name) {
+        return name == null ? NONE : valueOf(name.trim().toUpperCase().replace('-', '_'));
+    }
+
+    // ---------- Helpers ----------
+
+    /** Value of {@code count} digits at {@code start}, or -1 if any is not a digit. */
+    private static int digits(String value, int start, int count) {
+        int result = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private static int daysInMonth(int month, int year) {
+        switch (month) {
+            case 2:
+                boolean leap = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+                return leap ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static boolean allDigits(String value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean allUpperAlphanumeric(String value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (!isUpper(c) && (c < '0' || c > '9')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isUpper(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    /** ISO 4217 codes known to the JDK, indexed by their base-26 value. */
+    private static final class CurrencyCodes {
+
+        static final boolean[] KNOWN = new boolean[26 * 26 * 26];
+
+        static {
+            for (Currency currency : Currency.getAvailableCurrencies()) {
+                String code = currency.getCurrencyCode();
+                if (code.length() == 3 && code.chars().allMatch(c -> c >= 'A' && c <= 'Z')) {
+                    KNOWN[((code.charAt(0) - 'A') * 26 + code.charAt(1) - 'A') * 26 + code.charAt(2) - 'A'] = true;
+                }
+            }
+        }
+    }
+}
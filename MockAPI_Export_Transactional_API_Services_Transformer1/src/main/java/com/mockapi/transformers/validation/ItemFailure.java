@@ -0,0 +1,54 @@
+package com.mockapi.transformers.validation;
+
+import com.mockapi.transformers.common.FieldValues;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Failed rules of one element of a repeated array such as {@code invoiceList}.
+ */
+public final class ItemFailure {
+
+    private final int index;
+    private final FieldValues item;
+    private final List<String> codes = new ArrayList<>(4);
+    private final List<String> descriptions = new ArrayList<>(4);
+
+    ItemFailure(int index, FieldValues item) {
+        this.index = index;
+        this.item = item;
+    }
+
+    void add(String code, String description) {
+        codes.add(code);
+        descriptions.add(description);
+    }
+
+    /** Position of the element in the request array, starting at 0. */
+    public int getIndex() {
+        return index;
+    }
+
+    public FieldValues getItem() {
+        return item;
+    }
+
+    public List<String> getCodes() {
+        return Collections.unmodifiableList(codes);
+    }
+
+    public List<String> getDescriptions() {
+        return Collections.unmodifiableList(descriptions);
+    }
+
+    public String getErrorCode() {
+        return String.join(",", codes);
+    }
+
+    /** The descriptions in the format of the service-output errorDesc (see {@link ErrorDescriptions}). */
+    public String getErrorDesc() {
+        return ErrorDescriptions.join(descriptions);
+    }
+}
@@ -0,0 +1,106 @@
+package com.mockapi.transformers.validation;
+
+import com.mockapi.transformers.common.FieldValues;
+import com.mockapi.transformers.common.JsonFragment;
+import com.mockapi.transformers.common.ResponseBuffer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Per-element result of validating a repeated array. Only failed elements are
+ * kept, in request order.
+ *
+ * Written into a response it becomes an array with one object per failed
+ * element: the element's fields echoed back plus its {@code errorCode} and
+ * {@code errorDesc}.
+ */
+public final class ItemReport implements JsonFragment {
+
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] ERROR_CODE = ascii("\"errorCode\":");
+    private static final byte[] ERROR_DESC = ascii("\"errorDesc\":");
+
+    private final String field;
+    private final List<ItemFailure> failures;
+    private final byte[][] fieldKeys;
+
+    ItemReport(String field, List<ItemFailure> failures, byte[][] fieldKeys) {
+        this.field = field;
+        this.failures = failures;
+        this.fieldKeys = fieldKeys;
+    }
+
+    public boolean isEmpty() {
+        return failures.isEmpty();
+    }
+
+    public List<ItemFailure> getFailures() {
+        return Collections.unmodifiableList(failures);
+    }
+
+    /**
+     * Replays every failed rule of every element to the listener, each
+     * description naming its element: {@code invoiceList[1]: Invoice Date is mandatory}.
+     */
+    public void report(ViolationListener listener) {
+        for (ItemFailure failure : failures) {
+            String element = field + "[" + failure.getIndex() + "]: ";
+            List<String> codes = failure.getCodes();
+            List<String> descriptions = failure.getDescriptions();
+            for (int i = 0; i < codes.size(); i++) {
+                listener.onViolation(codes.get(i), element + descriptions.get(i));
+            }
+        }
+    }
+
+    @Override
+    public void writeTo(ResponseBuffer out) {
+        out.write((byte) '[');
+        for (int f = 0; f < failures.size(); f++) {
+            ItemFailure failure = failures.get(f);
+            FieldValues item = failure.getItem();
+
+            if (f > 0) {
+                out.write((byte) ',');
+            }
+            out.write((byte) '{');
+            for (int i = 0; i < fieldKeys.length; i++) {
+                out.write(fieldKeys[i]);
+                String value = item.get(i);
+                if (value == null) {
+                    out.write(NULL);
+                } else {
+                    out.writeJsonString(value);
+                }
+                out.write((byte) ',');
+            }
+            out.write(ERROR_CODE).writeJsonString(failure.getErrorCode());
+            out.write((byte) ',');
+            out.write(ERROR_DESC).write((byte) '"');
+            List<String> descriptions = failure.getDescriptions();
+            for (int i = 0; i < descriptions.size(); i++) {
+                ErrorDescriptions.write(out, i, descriptions.get(i));
+            }
+            out.write((byte) '"');
+            out.write((byte) '}');
+        }
+        out.write((byte) ']');
+    }
+
+    // ---------- Helpers ----------
+
+    /** {@code "name":} for each field, written once per service. */
+    static byte[][] fieldKeys(String[] names) {
+        byte[][] keys = new byte[names.length][];
+        for (int i = 0; i < names.length; i++) {
+            keys[i] = ascii("\"" + names[i] + "\":");
+        }
+        return keys;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
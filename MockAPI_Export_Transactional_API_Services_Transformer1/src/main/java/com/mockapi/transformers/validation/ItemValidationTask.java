@@ -0,0 +1,59 @@
+package com.mockapi.transformers.validation;
+
+import com.mockapi.transformers.common.FieldValues;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Validates a range of array elements, splitting in halves down to
+ * {@link #CHUNK} elements. Each element's failure (or null) is written to its
+ * own index of {@code results}, so request order is kept without merging.
+ */
+final class ItemValidationTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int CHUNK = 32;
+
+    /** Shared by every service; daemon threads so it never blocks shutdown. */
+    static final ForkJoinPool pool = new ForkJoinPool(
+            Runtime.getRuntime().availableProcessors(),
+            p -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+                thread.setName("item-validation-" + thread.getPoolIndex());
+                thread.setDaemon(true);
+                return thread;
+            },
+            null,
+            false);
+
+    private final RuleTable rules;
+    private final List<FieldValues> items;
+    private final ItemFailure[] results;
+    private final int from;
+    private final int to;
+
+    ItemValidationTask(RuleTable rules, List<FieldValues> items, ItemFailure[] results, int from, int to) {
+        this.rules = rules;
+        this.items = items;
+        this.results = results;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= CHUNK) {
+            for (int i = from; i < to; i++) {
+                results[i] = ServiceRules.checkItem(rules, i, items.get(i));
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        invokeAll(new ItemValidationTask(rules, items, results, from, middle),
+                  new ItemValidationTask(rules, items, results, middle, to));
+    }
+}
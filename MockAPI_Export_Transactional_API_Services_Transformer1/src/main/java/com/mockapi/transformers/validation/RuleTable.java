@@ -0,0 +1,175 @@
+package com.mockapi.transformers.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.mockapi.transformers.common.FieldGroup;
+import com.mockapi.transformers.common.FieldValues;
+
+/**
+ * Field rules for one JSON object, compiled into parallel arrays indexed by rule.
+ * Checking a rule reads the raw value in place and never allocates.
+ */
+final class RuleTable {
+
+    static final int OK = 0;
+    static final int MISSING = 1;
+    static final int LENGTH = 2;
+    static final int FORMAT = 3;
+    static final int VALUE = 4;
+
+    // keys of a per-kind description object, indexed by failure kind
+    private static final String[] KIND_NAMES = {"ok", "missing", "length", "format", "value"};
+
+    private final int size;
+    private final int[] slot;
+    private final int[] min;
+    private final int[] max;
+    private final boolean[] mandatory;
+    private final int[] whenSlot;
+    private final String[] whenEquals;
+    private final String[][] allowed;
+    private final FieldFormat[] format;
+    private final int[] precision;
+    private final int[] scale;
+    private final String[] code;
+    private final int[] codeId;
+    private final String[][] description;
+
+    RuleTable(JsonNode rules, FieldGroup fields) {
+        this.size = rules.size();
+        this.slot = new int[size];
+        this.min = new int[size];
+        this.max = new int[size];
+        this.mandatory = new boolean[size];
+        this.whenSlot = new int[size];
+        this.whenEquals = new String[size];
+        this.allowed = new String[size][];
+        this.format = new FieldFormat[size];
+        this.precision = new int[size];
+        this.scale = new int[size];
+        this.code = new String[size];
+        this.codeId = new int[size];
+        this.description = new String[size][];
+
+        for (int i = 0; i < size; i++) {
+            JsonNode rule = rules.get(i);
+            String field = rule.path("field").asText();
+            String label = text(rule.path("label"), field);
+
+            slot[i] = fields.slot(field);
+            max[i] = rule.path("max").asInt(Integer.MAX_VALUE);
+            min[i] = rule.path("min").asInt(Math.min(1, max[i]));
+            mandatory[i] = rule.path("mandatory").asBoolean(true);
+            format[i] = FieldFormat.fromName(text(rule.path("format"), null));
+            precision[i] = rule.path("precision").asInt(FieldFormat.DEFAULT_PRECISION);
+            scale[i] = rule.path("scale").asInt(FieldFormat.DEFAULT_SCALE);
+            code[i] = rule.path("code").asText();
+            codeId[i] = ErrorCodes.id(code[i]);
+
+            JsonNode when = rule.path("when");
+            whenSlot[i] = when.isObject() ? fields.slot(when.path("field").asText()) : -1;
+            whenEquals[i] = when.isObject() ? when.path("equals").asText() : null;
+
+            JsonNode values = rule.path("values");
+            if (values.isArray()) {
+                allowed[i] = new String[values.size()];
+                for (int v = 0; v < values.size(); v++) {
+                    allowed[i][v] = values.get(v).asText();
+                }
+            }
+
+            description[i] = describe(label, i, rule.path("description"));
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    String code(int rule) {
+        return code[rule];
+    }
+
+    int codeId(int rule) {
+        return codeId[rule];
+    }
+
+    String description(int rule, int failure) {
+        return description[rule][failure];
+    }
+
+    /** Returns {@link #OK} or the kind of failure for the given rule. */
+    int check(int rule, FieldValues values) {
+        if (whenSlot[rule] >= 0 && !TextChecks.trimmedEquals(values.get(whenSlot[rule]), whenEquals[rule])) {
+            return OK;
+        }
+
+        String value = values.get(slot[rule]);
+        int start = TextChecks.trimStart(value);
+        int end = TextChecks.trimEnd(value, start);
+
+        if (start == end) {
+            return mandatory[rule] ? MISSING : OK;
+        }
+
+        int length = end - start;
+        if (length < min[rule] || length > max[rule]) {
+            return LENGTH;
+        }
+
+        if (!format[rule].matches(value, start, end, precision[rule], scale[rule])) {
+            return FORMAT;
+        }
+
+        if (allowed[rule] != null && !TextChecks.isOneOf(value, start, end, allowed[rule])) {
+            return VALUE;
+        }
+
+        return OK;
+    }
+
+    /** The node's text, or the fallback when it is missing or JSON null. */
+    static String text(JsonNode node, String fallback) {
+        return node.isMissingNode() || node.isNull() ? fallback : node.asText();
+    }
+
+    // ---------- Message Precomputation ----------
+
+    /**
+     * Messages per kind of failure. A {@code description} string replaces all of
+     * them; an object replaces only the kinds it names, e.g.
+     * {@code {"missing": "Port Code is Required"}}.
+     */
+    private String[] describe(String label, int rule, JsonNode override) {
+        String[] messages = new String[VALUE + 1];
+
+        messages[MISSING] = label + " is mandatory";
+
+        if (min[rule] <= 1) {
+            messages[LENGTH] = label + " length should be <= " + max[rule];
+        } else if (min[rule] == max[rule]) {
+            messages[LENGTH] = label + " length should be " + max[rule];
+        } else {
+            messages[LENGTH] = label + " length should be between " + min[rule] + " and " + max[rule];
+        }
+
+        String hint = format[rule].hint(label, precision[rule], scale[rule]);
+        messages[FORMAT] = hint == null
+                ? "invalid " + label + " data"
+                : "invalid " + label + " data, " + hint;
+
+        messages[VALUE] = allowed[rule] == null
+                ? messages[FORMAT]
+                : label + " should be one of " + String.join(", ", allowed[rule]);
+
+        if (override.isTextual()) {
+            for (int kind = MISSING; kind <= VALUE; kind++) {
+                messages[kind] = override.asText();
+            }
+        } else if (override.isObject()) {
+            for (int kind = MISSING; kind <= VALUE; kind++) {
+                messages[kind] = text(override.path(KIND_NAMES[kind]), messages[kind]);
+            }
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,211 @@
+package com.mockapi.transformers.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.mockapi.transformers.common.FieldGroup;
+import com.mockapi.transformers.common.FieldValues;
+import com.mockapi.transformers.common.ParsedRequest;
+import com.mockapi.transformers.common.RequestSchema;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compiled validation rules of one export transaction service: rules on the
+ * {@code service-input} fields and, optionally, on each element of a repeated
+ * array such as {@code invoiceList}.
+ *
+ * Every array element is validated. Arrays longer than the parallel threshold
+ * ({@code parallelItemThreshold} transformer parameter, falling back to the
+ * {@code mockapi.parallelItemThreshold} system property, default 256) are
+ * checked on a shared ForkJoinPool.
+ */
+public final class ServiceRules {
+
+    public static final int DEFAULT_PARALLEL_ITEM_THRESHOLD =
+            Integer.getInteger("mockapi.parallelItemThreshold", 256);
+
+    private final String service;
+    private final RequestSchema schema;
+    private final RuleTable inputRules;
+    private final RuleTable itemRules;
+    private final String itemsField;
+    private final boolean itemsMandatory;
+    private final String itemsCode;
+    private final int itemsCodeId;
+    private final String itemsDescription;
+    private final byte[][] itemKeys;
+
+    ServiceRules(String service, JsonNode definition) {
+        this.service = service;
+
+        JsonNode fields = definition.path("fields");
+        JsonNode items = definition.path("items");
+
+        RequestSchema schema = RequestSchema.of(fieldNames(fields));
+        if (items.isObject()) {
+            schema = schema.withItems(items.path("field").asText(), fieldNames(items.path("fields")));
+        }
+        this.schema = schema;
+
+        this.inputRules = new RuleTable(fields, schema.getInputFields());
+
+        if (items.isObject()) {
+            String label = RuleTable.text(items.path("label"), items.path("field").asText());
+            this.itemRules = new RuleTable(items.path("fields"), schema.getItemFields());
+            this.itemsField = items.path("field").asText();
+            this.itemsMandatory = items.path("mandatory").asBoolean(true);
+            this.itemsCode = items.path("code").asText();
+            this.itemsCodeId = ErrorCodes.id(itemsCode);
+            this.itemsDescription = label + " is mandatory";
+            this.itemKeys = ItemReport.fieldKeys(names(schema.getItemFields()));
+        } else {
+            this.itemRules = null;
+            this.itemsField = null;
+            this.itemsMandatory = false;
+            this.itemsCode = null;
+            this.itemsCodeId = -1;
+            this.itemsDescription = null;
+            this.itemKeys = new byte[0][];
+        }
+    }
+
+    public String getService() {
+        return service;
+    }
+
+    /** Request fields the rules read, for {@code StreamingRequestParser}. */
+    public RequestSchema getSchema() {
+        return schema;
+    }
+
+    /** Stops at the first failed rule. */
+    public boolean isValid(ParsedRequest request) {
+        FieldValues input = request.input();
+        for (int rule = 0; rule < inputRules.size(); rule++) {
+            if (inputRules.check(rule, input) != RuleTable.OK) {
+                return false;
+            }
+        }
+
+        if (itemRules == null) {
+            return true;
+        }
+        if (request.items().isEmpty()) {
+            return !itemsMandatory;
+        }
+
+        for (FieldValues item : request.items()) {
+            for (int rule = 0; rule < itemRules.size(); rule++) {
+                if (itemRules.check(rule, item) != RuleTable.OK) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /** Reports every failed rule to the listener, in rule order, then element order. */
+    public boolean validate(ParsedRequest request, ViolationListener listener) {
+        boolean valid = validateInput(request, listener);
+
+        if (itemRules != null) {
+            for (FieldValues item : request.items()) {
+                valid &= report(itemRules, item, listener);
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Reports failed {@code service-input} rules and a missing mandatory array,
+     * leaving the array elements to {@link #validateItems}.
+     */
+    public boolean validateInput(ParsedRequest request, ViolationListener listener) {
+        boolean valid = report(inputRules, request.input(), listener);
+
+        if (itemRules != null && itemsMandatory && request.items().isEmpty()) {
+            listener.onViolation(itemsCodeId, itemsCode, itemsDescription);
+            valid = false;
+        }
+        return valid;
+    }
+
+    /** Validates every array element and collects the failed ones. */
+    public ItemReport validateItems(ParsedRequest request, int parallelThreshold) {
+        List<FieldValues> items = request.items();
+        List<ItemFailure> failures = new ArrayList<>();
+
+        if (itemRules == null || items.isEmpty()) {
+            return new ItemReport(itemsField, failures, itemKeys);
+        }
+
+        if (items.size() <= parallelThreshold) {
+            for (int i = 0; i < items.size(); i++) {
+                ItemFailure failure = checkItem(itemRules, i, items.get(i));
+                if (failure != null) {
+                    failures.add(failure);
+                }
+            }
+        } else {
+            ItemFailure[] results = new ItemFailure[items.size()];
+            ItemValidationTask.pool.invoke(
+                    new ItemValidationTask(itemRules, items, results, 0, results.length));
+            for (ItemFailure failure : results) {
+                if (failure != null) {
+                    failures.add(failure);
+                }
+            }
+        }
+        return new ItemReport(itemsField, failures, itemKeys);
+    }
+
+    // ---------- Helpers ----------
+
+    private static boolean report(RuleTable rules, FieldValues values, ViolationListener listener) {
+        boolean valid = true;
+        for (int rule = 0; rule < rules.size(); rule++) {
+            int failure = rules.check(rule, values);
+            if (failure != RuleTable.OK) {
+                listener.onViolation(rules.codeId(rule), rules.code(rule), rules.description(rule, failure));
+                valid = false;
+            }
+        }
+        return valid;
+    }
+
+    /** The element's failed rules, or null when it passes. */
+    static ItemFailure checkItem(RuleTable rules, int index, FieldValues item) {
+        ItemFailure failure = null;
+        for (int rule = 0; rule < rules.size(); rule++) {
+            int kind = rules.check(rule, item);
+            if (kind != RuleTable.OK) {
+                if (failure == null) {
+                    failure = new ItemFailure(index, item);
+                }
+                failure.add(rules.code(rule), rules.description(rule, kind));
+            }
+        }
+        return failure;
+    }
+
+    private static String[] names(FieldGroup fields) {
+        String[] names = new String[fields.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = fields.name(i);
+        }
+        return names;
+    }
+
+    private static String[] fieldNames(JsonNode rules) {
+        Set<String> names = new LinkedHashSet<>();
+        for (JsonNode rule : rules) {
+            names.add(rule.path("field").asText());
+            if (rule.path("when").isObject()) {
+                names.add(rule.path("when").path("field").asText());
+            }
+        }
+        return names.toArray(new String[0]);
+    }
+}
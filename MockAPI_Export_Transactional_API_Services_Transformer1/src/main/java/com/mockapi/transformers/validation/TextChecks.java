@@ -0,0 +1,47 @@
+package com.mockapi.transformers.validation;
+
+/**
+ * Index-based string helpers that inspect a value in place instead of
+ * creating trimmed copies.
+ */
+final class TextChecks {
+
+    private TextChecks() {
+    }
+
+    static int trimStart(String value) {
+        if (value == null) return 0;
+        int start = 0;
+        while (start < value.length() && value.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    static int trimEnd(String value, int start) {
+        if (value == null) return 0;
+        int end = value.length();
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    static boolean trimmedEquals(String value, String expected) {
+        if (value == null) return false;
+        int start = trimStart(value);
+        int end = trimEnd(value, start);
+        return end - start == expected.length()
+                && value.regionMatches(start, expected, 0, expected.length());
+    }
+
+    static boolean isOneOf(String value, int start, int end, String[] candidates) {
+        int length = end - start;
+        for (String candidate : candidates) {
+            if (candidate.length() == length && value.regionMatches(start, candidate, 0, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
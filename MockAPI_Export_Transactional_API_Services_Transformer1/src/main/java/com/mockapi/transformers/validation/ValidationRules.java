@@ -0,0 +1,71 @@
+package com.mockapi.transformers.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.mockapi.transformers.common.Json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Registry of per-service validation rules, compiled once from the
+ * {@code validation-rules.json} class path resource. Bank profiles compile
+ * their own rules files in the same format with {@link #load(Path)}.
+ */
+public final class ValidationRules {
+
+    static final String RESOURCE = "/validation-rules.json";
+
+    private static final Map<String, ServiceRules> services = load();
+
+    private ValidationRules() {
+    }
+
+    public static ServiceRules forService(String service) {
+        ServiceRules rules = services.get(service);
+        if (rules == null) {
+            throw new IllegalArgumentException("No validation rules defined for service " + service);
+        }
+        return rules;
+    }
+
+    public static Iterable<String> services() {
+        return services.keySet();
+    }
+
+    /** Compiles the rules of every service in a rules file on disk. */
+    public static Map<String, ServiceRules> load(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return compile(Json.reader().readTree(in));
+        }
+    }
+
+    private static Map<String, ServiceRules> load() {
+        try (InputStream in = ValidationRules.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing class path resource " + RESOURCE);
+            }
+            return compile(Json.reader().readTree(in));
+
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to load " + RESOURCE, e);
+        }
+    }
+
+    private static Map<String, ServiceRules> compile(JsonNode root) {
+        Map<String, ServiceRules> compiled = new HashMap<>();
+
+        Iterator<Map.Entry<String, JsonNode>> entries = root.fields();
+        while (entries.hasNext()) {
+            Map.Entry<String, JsonNode> entry = entries.next();
+            compiled.put(entry.getKey(), new ServiceRules(entry.getKey(), entry.getValue()));
+        }
+        return Collections.unmodifiableMap(compiled);
+    }
+}
@@ -0,0 +1,15 @@
+package com.mockapi.transformers.validation;
+
+/**
+ * Receives each failed rule with its precomputed error code and description.
+ */
+@FunctionalInterface
+public interface ViolationListener {
+
+    void onViolation(String code, String description);
+
+    /** A violation whose code was numbered in advance by {@link ErrorCodes}. */
+    default void onViolation(int codeId, String code, String description) {
+        onViolation(code, description);
+    }
+}
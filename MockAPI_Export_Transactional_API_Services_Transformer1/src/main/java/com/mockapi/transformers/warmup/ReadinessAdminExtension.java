@@ -0,0 +1,54 @@
+package com.mockapi.transformers.warmup;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.tomakehurst.wiremock.admin.Router;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.extension.AdminApiExtension;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.mockapi.transformers.common.Json;
+
+/**
+ * Starts the {@link WarmUp} when WireMock loads its extensions and exposes
+ * {@code GET /__admin/mockapi/ready}: 200 once warm-up has finished, 503 until
+ * then. Container health checks can wait on it before sending traffic.
+ */
+public class ReadinessAdminExtension implements AdminApiExtension {
+
+    private static final WarmUp warmUp = WarmUp.getInstance();
+
+    @Override
+    public String getName() {
+        return "mockapi-readiness";
+    }
+
+    @Override
+    public void start() {
+        warmUp.start();
+    }
+
+    @Override
+    public void contributeAdminApiRoutes(Router router) {
+        router.add(RequestMethod.GET, "/mockapi/ready",
+                (admin, serveEvent, pathParams) -> readiness());
+    }
+
+    private static ResponseDefinition readiness() {
+        boolean ready = warmUp.isReady();
+
+        ObjectNode body = Json.object().put("ready", ready);
+        ObjectNode warmup = body.putObject("warmup");
+        warmup.put("iterations", warmUp.getIterations());
+        warmup.put("requests", warmUp.getRequests());
+        warmup.put("millis", warmUp.getElapsedMillis());
+        if (warmUp.getFailure() != null) {
+            warmup.put("failure", warmUp.getFailure());
+        }
+
+        return new ResponseDefinitionBuilder()
+                .withStatus(ready ? 200 : 503)
+                .withHeader("Content-Type", "application/json")
+                .withBody(body.toString())
+                .build();
+    }
+}
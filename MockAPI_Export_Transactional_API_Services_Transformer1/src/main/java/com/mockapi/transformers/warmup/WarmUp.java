@@ -0,0 +1,159 @@
+package com.mockapi.transformers.warmup;
+
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.http.ImmutableRequest;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.mockapi.transformers.audit.AuditLog;
+import com.mockapi.transformers.common.RequestScope;
+import com.mockapi.transformers.routing.ServiceHandler;
+import com.mockapi.transformers.routing.ServiceHandlers;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.util.Unbox;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes the {@code payloads/<service>.json} and {@code payloads/<service>-invalid.json}
+ * bodies through every service handler before traffic is served, so the JIT,
+ * the rule tables, the template cache and Jackson are warm for the first real request.
+ *
+ * Runs once on a background thread, {@code -Dmockapi.warmup.iterations} (default 1000)
+ * times per payload; 0 skips it. Warm-up requests are not counted in the metrics,
+ * journal or audit log, and neither touch the lifecycle state nor the replay cache.
+ */
+public final class WarmUp {
+
+    private static final Logger log = LogManager.getLogger(WarmUp.class);
+
+    static final String BASE_URL =
+            "http://localhost/trracsapiserv/bankname/apiservices/export-transaction-api-serv/";
+
+    private static final String REQUEST_ID = "${requestId}";
+
+    private static final class Holder {
+        private static final WarmUp INSTANCE =
+                new WarmUp(Integer.getInteger("mockapi.warmup.iterations", 1000));
+    }
+
+    public static WarmUp getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private final int iterations;
+    private final Parameters parameters;
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private volatile boolean ready;
+    private volatile long elapsedMillis;
+    private volatile long requests;
+    private volatile String failure;
+
+    private WarmUp(int iterations) {
+        this.iterations = Math.max(0, iterations);
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("stateful", false);
+        params.put("idempotent", false);
+        this.parameters = Parameters.from(params);
+    }
+
+    /** Starts the warm-up thread; later calls do nothing. */
+    public void start() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        if (iterations == 0) {
+            ready = true;
+            return;
+        }
+
+        Thread thread = new Thread(this::run, "mockapi-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    /** Why warm-up stopped early, or null. The server is ready either way. */
+    public String getFailure() {
+        return failure;
+    }
+
+    // ---------- Warm-up ----------
+
+    private void run() {
+        long start = System.nanoTime();
+        long count = 0;
+
+        AuditLog.setRecording(false);
+        try {
+            for (ServiceHandler handler : ServiceHandlers.all()) {
+                count += drive(handler, payload(handler.getService() + ".json"));
+                count += drive(handler, payload(handler.getService() + "-invalid.json"));
+            }
+        } catch (IOException | RuntimeException e) {
+            failure = e.toString();
+            log.warn("Warm-up stopped early", e);
+        } finally {
+            AuditLog.setRecording(true);
+            RequestScope.clear();
+
+            requests = count;
+            elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            ready = true;
+        }
+
+        log.info("Warm-up finished: requests={} iterations={} millis={}",
+                Unbox.box(count), Unbox.box(iterations), Unbox.box(elapsedMillis));
+    }
+
+    private long drive(ServiceHandler handler, String payload) {
+        if (payload == null) {
+            return 0;
+        }
+        String url = BASE_URL + handler.getService();
+
+        for (int i = 0; i < iterations; i++) {
+            byte[] body = payload.replace(REQUEST_ID, "WARMUP-" + i).getBytes(StandardCharsets.UTF_8);
+            Request request = ImmutableRequest.create()
+                    .withAbsoluteUrl(url)
+                    .withMethod(RequestMethod.POST)
+                    .withHeader("Content-Type", "application/json")
+                    // every other response is gzip-encoded
+                    .withHeader("Accept-Encoding", i % 2 == 0 ? "gzip" : "identity")
+                    .withBody(body)
+                    .build();
+
+            RequestScope.clear();
+            handler.handle(request, parameters);
+        }
+        return iterations;
+    }
+
+    private static String payload(String file) throws IOException {
+        try (InputStream in = WarmUp.class.getClassLoader().getResourceAsStream("payloads/" + file)) {
+            return in == null ? null : new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
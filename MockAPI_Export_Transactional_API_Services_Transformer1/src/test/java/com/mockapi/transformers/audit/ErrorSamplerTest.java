@@ -0,0 +1,48 @@
+package com.mockapi.transformers.audit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ErrorSamplerTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void admitsUpToTheLimitPerWindow() {
+        ErrorSampler sampler = new ErrorSampler(3);
+        long now = System.nanoTime();
+
+        assertTrue(sampler.tryAcquire(now));
+        assertTrue(sampler.tryAcquire(now));
+        assertTrue(sampler.tryAcquire(now));
+        assertFalse(sampler.tryAcquire(now));
+        assertFalse(sampler.tryAcquire(now + SECOND / 2));
+    }
+
+    @Test
+    void suppressedRecordsAreDrainedOnce() {
+        ErrorSampler sampler = new ErrorSampler(1);
+        long now = System.nanoTime();
+
+        sampler.tryAcquire(now);
+        sampler.tryAcquire(now);
+        sampler.tryAcquire(now);
+
+        assertEquals(2, sampler.drainSuppressed());
+        assertEquals(0, sampler.drainSuppressed());
+    }
+
+    @Test
+    void aNewWindowStartsAfterASecond() {
+        ErrorSampler sampler = new ErrorSampler(1);
+        long now = System.nanoTime();
+
+        assertTrue(sampler.tryAcquire(now));
+        assertFalse(sampler.tryAcquire(now));
+        assertTrue(sampler.tryAcquire(now + SECOND));
+        assertFalse(sampler.tryAcquire(now + SECOND));
+    }
+}
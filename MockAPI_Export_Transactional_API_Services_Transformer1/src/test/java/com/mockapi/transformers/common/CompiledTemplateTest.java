@@ -0,0 +1,206 @@
+package com.mockapi.transformers.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Every template in {@code __files} renders to the JSON of the file with the
+ * request's values and fresh generated fields in place.
+ */
+class CompiledTemplateTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static final DateTimeFormatter PROCESS_DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter REFERENCE_DATE = DateTimeFormatter.ofPattern("ddMMyyyy");
+
+    private static final Pattern RESPONSE_TIME = Pattern.compile("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}\\.\\d{3}");
+    private static final Pattern REFERENCE_NO = Pattern.compile("APIPROCESS(\\d{8})_([A-Z_]+)_(.{36})");
+
+    private static final String ERROR_DESC =
+            "irmNumber \"IRM\\000123\" is invalid. Montant dû: ₹ 1,500 – 日本 💱.\tLine\n2";
+
+    /** Request values by response field name; slots with several names list each. */
+    private static final Map<String, String> VALUES = new LinkedHashMap<>();
+
+    static {
+        VALUES.put("req-hdr-request-id", "REQ-\"42\"");
+        VALUES.put("req-hdr-service-name", "IRM_ADJUSTMENT");
+        VALUES.put("req-hdr-request-time", "17/10/2026 10.30 A.M.");
+        VALUES.put("request-source", "Trade\\Flow");
+        VALUES.put("error-code", "EM_HDR_062,EM_DET_028");
+        VALUES.put("errorCode", "EM_HDR_062,EM_DET_028");
+        VALUES.put("error-desc", ERROR_DESC);
+        VALUES.put("errorDesc", ERROR_DESC);
+    }
+
+    private static TemplateValues values() {
+        return new TemplateValues()
+                .set(TemplateSlot.REQUEST_ID, VALUES.get("req-hdr-request-id"))
+                .set(TemplateSlot.SERVICE_NAME, VALUES.get("req-hdr-service-name"))
+                .set(TemplateSlot.REQUEST_TIME, VALUES.get("req-hdr-request-time"))
+                .set(TemplateSlot.REQUEST_SOURCE, VALUES.get("request-source"))
+                .set(TemplateSlot.ERROR_CODE, VALUES.get("error-code"))
+                .set(TemplateSlot.ERROR_DESC, VALUES.get("error-desc"));
+    }
+
+    static List<Path> templates() throws IOException {
+        try (Stream<Path> files = Files.list(Paths.get("__files"))) {
+            return files.filter(file -> file.toString().endsWith(".json")).sorted().collect(Collectors.toList());
+        }
+    }
+
+    /** Checks the generated fields of {@code rendered} and copies them into {@code expected}. */
+    private static void checkGenerated(ObjectNode expected, JsonNode rendered) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+
+        Iterator<Map.Entry<String, JsonNode>> sections = expected.fields();
+        while (sections.hasNext()) {
+            Map.Entry<String, JsonNode> section = sections.next();
+            if (!section.getValue().isObject()) {
+                continue;
+            }
+            ObjectNode target = (ObjectNode) section.getValue();
+            JsonNode actual = rendered.path(section.getKey());
+
+            if (target.has("response-id")) {
+                String id = actual.path("response-id").asText();
+                assertTrue(id.startsWith("api-"), id);
+                assertEquals(4, UUID.fromString(id.substring(4)).version(), id);
+                target.put("response-id", id);
+            }
+            if (target.has("response-time")) {
+                String time = actual.path("response-time").asText();
+                assertTrue(RESPONSE_TIME.matcher(time).matches(), time);
+                assertTrue(Duration.between(LocalDateTime.parse(time), now).abs().toMinutes() < 1, time);
+                target.put("response-time", time);
+            }
+            if (target.has("processDate")) {
+                String date = actual.path("processDate").asText();
+                LocalDate parsed = LocalDate.parse(date, PROCESS_DATE);
+                assertTrue(parsed.equals(today) || parsed.equals(today.minusDays(1)), date);
+                target.put("processDate", date);
+            }
+            if (target.has("referenceNo")) {
+                String reference = actual.path("referenceNo").asText();
+                Matcher m = REFERENCE_NO.matcher(reference);
+                assertTrue(m.matches(), reference);
+                LocalDate date = LocalDate.parse(m.group(1), REFERENCE_DATE);
+                assertTrue(date.equals(today) || date.equals(today.minusDays(1)), reference);
+                assertEquals(target.path("process_name").asText(), m.group(2), reference);
+                assertEquals(4, UUID.fromString(m.group(3)).version(), reference);
+                target.put("referenceNo", reference);
+            }
+        }
+    }
+
+    private static String field(byte[] rendered, String section, String name) throws IOException {
+        return mapper.readTree(rendered).path(section).path(name).asText();
+    }
+
+    @ParameterizedTest
+    @MethodSource("templates")
+    void rendersTheFileWithRequestValuesAndGeneratedFields(Path file) throws IOException {
+        byte[] source = Files.readAllBytes(file);
+        ObjectNode expected = (ObjectNode) mapper.readTree(source);
+
+        JsonNode rendered = mapper.readTree(CompiledTemplate.compile(source).render(values()));
+
+        for (JsonNode section : expected) {
+            if (section.isObject()) {
+                for (Map.Entry<String, String> value : VALUES.entrySet()) {
+                    if (section.has(value.getKey())) {
+                        ((ObjectNode) section).put(value.getKey(), value.getValue());
+                    }
+                }
+            }
+        }
+        checkGenerated(expected, rendered);
+
+        assertEquals(expected, rendered);
+    }
+
+    @ParameterizedTest
+    @MethodSource("templates")
+    void generatedFieldsChangeOnEveryRender(Path file) throws IOException, InterruptedException {
+        CompiledTemplate template = CompiledTemplate.compile(Files.readAllBytes(file));
+
+        byte[] first = template.render(new TemplateValues());
+        Thread.sleep(5);
+        byte[] second = template.render(new TemplateValues());
+
+        assertNotEquals(field(first, "response-header", "response-id"),
+                field(second, "response-header", "response-id"));
+        assertNotEquals(field(first, "response-header", "response-time"),
+                field(second, "response-header", "response-time"));
+        assertNotEquals(field(first, "service-output", "referenceNo"),
+                field(second, "service-output", "referenceNo"));
+    }
+
+    @Test
+    void errorDescriptionIsEscapedAsJson() throws IOException {
+        CompiledTemplate template = CompiledTemplate.compile(
+                Files.readAllBytes(Paths.get("__files", "irm-adjustment-fail-response.json")));
+
+        byte[] rendered = template.render(values());
+        String text = new String(rendered, StandardCharsets.UTF_8);
+
+        assertTrue(text.contains("\"REQ-\\\"42\\\"\""), text);
+        assertTrue(text.contains("\"Trade\\\\Flow\""), text);
+        assertTrue(text.contains("\\\"IRM\\\\000123\\\""), text);
+        assertTrue(text.contains("₹ 1,500 – 日本 💱.\\u0009Line\\u000a2"), text);
+        assertEquals(ERROR_DESC, field(rendered, "service-output", "error-desc"));
+    }
+
+    @Test
+    void unsetSlotsKeepTheTemplateValue() throws IOException {
+        byte[] source = Files.readAllBytes(Paths.get("__files", "irm-adjustment-fail-response.json"));
+        JsonNode expected = mapper.readTree(source);
+
+        JsonNode rendered = mapper.readTree(CompiledTemplate.compile(source).render(new TemplateValues()));
+
+        assertEquals(expected.path("service-output").path("error-desc"),
+                rendered.path("service-output").path("error-desc"));
+        assertEquals(expected.path("response-header").path("req-hdr-request-id"),
+                rendered.path("response-header").path("req-hdr-request-id"));
+    }
+
+    @Test
+    void invalidJsonIsServedAsIs() {
+        byte[] source = "{\"response-header\": {".getBytes(StandardCharsets.UTF_8);
+        CompiledTemplate template = CompiledTemplate.compile(source);
+
+        assertArrayEquals(source, template.render(values()));
+        assertFalse(template.hasSlot(TemplateSlot.ERROR_DESC));
+    }
+}
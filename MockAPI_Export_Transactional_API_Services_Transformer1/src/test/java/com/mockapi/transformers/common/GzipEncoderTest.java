@@ -0,0 +1,135 @@
+package com.mockapi.transformers.common;
+
+import com.github.tomakehurst.wiremock.http.ImmutableRequest;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GzipEncoderTest {
+
+    private static byte[] gunzip(byte[] gzipped) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return in.readAllBytes();
+        }
+    }
+
+    /** JSON-like text, which compresses well. */
+    private static byte[] text(int length) {
+        byte[] body = new byte[length];
+        byte[] pattern = "{\"errorCode\":\"EM_DET_028\",\"irmNumber\":\"IRM000123\"},".getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < length; i++) {
+            body[i] = pattern[i % pattern.length];
+        }
+        return body;
+    }
+
+    /** Random bytes, which do not compress. */
+    private static byte[] random(int length, long seed) {
+        byte[] body = new byte[length];
+        new Random(seed).nextBytes(body);
+        return body;
+    }
+
+    private static Request request(String acceptEncoding) {
+        ImmutableRequest.Builder builder = ImmutableRequest.create()
+                .withAbsoluteUrl("http://localhost/mock/irm-extension")
+                .withMethod(RequestMethod.POST);
+        if (acceptEncoding != null) {
+            builder.withHeader("Accept-Encoding", acceptEncoding);
+        }
+        return builder.build();
+    }
+
+    @Test
+    void emptyBodyIsAValidGzipMember() throws IOException {
+        byte[] gzipped = GzipEncoder.gzip(new byte[0]);
+
+        assertEquals(0x1f, gzipped[0] & 0xff);
+        assertEquals(0x8b, gzipped[1] & 0xff);
+        assertArrayEquals(new byte[0], gunzip(gzipped));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 255, 256, 257, 8191, 8192, 8193})
+    void bodiesRoundTrip(int length) throws IOException {
+        byte[] text = text(length);
+        assertArrayEquals(text, gunzip(GzipEncoder.gzip(text)));
+
+        byte[] random = random(length, length);
+        assertArrayEquals(random, gunzip(GzipEncoder.gzip(random)));
+    }
+
+    @Test
+    void bodyLargerThanTheStartingBufferRoundTrips() throws IOException {
+        byte[] body = random(64 * 1024, 1);
+        byte[] gzipped = GzipEncoder.gzip(body);
+
+        assertTrue(gzipped.length > 8192);
+        assertArrayEquals(body, gunzip(gzipped));
+    }
+
+    @Test
+    void pooledEncoderIsResetBetweenBodies() throws IOException {
+        // One thread gets the same pooled encoder back each time: a grown buffer,
+        // a buffer grown past the retained capacity, then small bodies again
+        byte[][] bodies = {
+                random(32 * 1024, 2), text(300), random(512 * 1024, 3), new byte[0], text(5000), random(300, 4)
+        };
+        for (int round = 0; round < 3; round++) {
+            for (byte[] body : bodies) {
+                assertArrayEquals(body, gunzip(GzipEncoder.gzip(body)));
+            }
+        }
+    }
+
+    @Test
+    void compressesOnlyFromTheMinimumLength() {
+        Request gzip = request("gzip");
+
+        assertFalse(GzipEncoder.shouldCompress(gzip, 0));
+        assertFalse(GzipEncoder.shouldCompress(gzip, 255));
+        assertTrue(GzipEncoder.shouldCompress(gzip, 256));
+        assertTrue(GzipEncoder.shouldCompress(gzip, 257));
+        assertFalse(GzipEncoder.shouldCompress(request(null), 1024));
+        assertFalse(GzipEncoder.shouldCompress(request("identity"), 1024));
+    }
+
+    @Test
+    void acceptEncodingLists() {
+        assertTrue(GzipEncoder.acceptsGzip("gzip"));
+        assertTrue(GzipEncoder.acceptsGzip("GZIP"));
+        assertTrue(GzipEncoder.acceptsGzip("deflate, gzip;q=0.8, br"));
+        assertTrue(GzipEncoder.acceptsGzip(" * "));
+        assertTrue(GzipEncoder.acceptsGzip("gzip;q=0.01"));
+
+        assertFalse(GzipEncoder.acceptsGzip(null));
+        assertFalse(GzipEncoder.acceptsGzip(""));
+        assertFalse(GzipEncoder.acceptsGzip("identity"));
+        assertFalse(GzipEncoder.acceptsGzip("x-gzip, gzipx"));
+        assertFalse(GzipEncoder.acceptsGzip("gzip;q=0"));
+        assertFalse(GzipEncoder.acceptsGzip("gzip; q=0.000"));
+        assertFalse(GzipEncoder.acceptsGzip("*;q=0"));
+    }
+
+    @Test
+    void explicitGzipQualityOverridesTheWildcard() {
+        assertFalse(GzipEncoder.acceptsGzip("gzip;q=0, *"));
+        assertFalse(GzipEncoder.acceptsGzip("*, gzip;q=0"));
+        assertTrue(GzipEncoder.acceptsGzip("gzip, *;q=0"));
+        assertTrue(GzipEncoder.acceptsGzip("*;q=0, gzip"));
+    }
+}
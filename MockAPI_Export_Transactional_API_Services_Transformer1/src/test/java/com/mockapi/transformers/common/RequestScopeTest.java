@@ -0,0 +1,68 @@
+package com.mockapi.transformers.common;
+
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.http.ImmutableRequest;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class RequestScopeTest {
+
+    private static final RequestSchema SCHEMA = RequestSchema.of("irmNumber");
+
+    private static final String JSON =
+            "{\"request-header\":{\"request-id\":\"R1\"},\"service-input\":{\"irmNumber\":\"IRM1\"}}";
+
+    private static Request request(byte[] body) {
+        return ImmutableRequest.create()
+                .withAbsoluteUrl("http://localhost/irm")
+                .withMethod(RequestMethod.POST)
+                .withBody(body)
+                .build();
+    }
+
+    @AfterEach
+    void clearScope() {
+        RequestScope.clear();
+    }
+
+    @Test
+    void copiesSharingABodyShareOneParse() throws IOException {
+        byte[] body = JSON.getBytes(StandardCharsets.UTF_8);
+
+        ParsedRequest first = RequestScope.parse(request(body), SCHEMA, Parameters.empty());
+        ParsedRequest second = RequestScope.parse(request(body), SCHEMA, Parameters.empty());
+
+        assertSame(first, second);
+        assertSame(first.header(), RequestScope.header(request(body), Parameters.empty()));
+        assertEquals("IRM1", first.input().get("irmNumber"));
+    }
+
+    @Test
+    void anotherBodyArrayIsParsedAfresh() throws IOException {
+        ParsedRequest first = RequestScope.parse(
+                request(JSON.getBytes(StandardCharsets.UTF_8)), SCHEMA, Parameters.empty());
+        ParsedRequest second = RequestScope.parse(
+                request(JSON.getBytes(StandardCharsets.UTF_8)), SCHEMA, Parameters.empty());
+
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void clearDropsTheParse() throws IOException {
+        byte[] body = JSON.getBytes(StandardCharsets.UTF_8);
+
+        ParsedRequest first = RequestScope.parse(request(body), SCHEMA, Parameters.empty());
+        RequestScope.clear();
+
+        assertNotSame(first, RequestScope.parse(request(body), SCHEMA, Parameters.empty()));
+    }
+}
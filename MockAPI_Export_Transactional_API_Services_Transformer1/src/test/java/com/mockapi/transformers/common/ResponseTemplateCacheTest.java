@@ -0,0 +1,108 @@
+package com.mockapi.transformers.common;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The caches are not watched; the tests call {@code refresh} as the watcher
+ * does for each changed file name.
+ */
+class ResponseTemplateCacheTest {
+
+    @TempDir
+    Path root;
+
+    private Path files;
+
+    @BeforeEach
+    void createRoot() throws IOException {
+        files = Files.createDirectory(root.resolve("__files"));
+        Files.createDirectory(root.resolve("mappings"));
+        Files.writeString(root.resolve("mappings").resolve("mapping.json"),
+                "{\"response\":{\"transformerParameters\":{\"successFile\":\"referenced.json\","
+                        + "\"failFiles\":{\"EM_HDR_062\":\"table.json\"}}}}");
+        write("referenced.json", "{\"v\":1}");
+        write("table.json", "{\"v\":1}");
+    }
+
+    private void write(String name, String content) throws IOException {
+        Files.writeString(files.resolve(name), content);
+    }
+
+    private static String text(ResponseTemplate template) {
+        return new String(template.bytes(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void preloadsTheTemplatesReferencedByMappings() {
+        ResponseTemplateCache cache = new ResponseTemplateCache(root, false);
+
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void refreshIgnoresFilesNeitherCachedNorReferenced() throws IOException {
+        ResponseTemplateCache cache = new ResponseTemplateCache(root, false);
+        write("unrelated.json", "{\"v\":1}");
+
+        cache.refresh("unrelated.json");
+        cache.refresh("unrelated.json.swp");
+
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void refreshReloadsReferencedTemplates() throws IOException {
+        ResponseTemplateCache cache = new ResponseTemplateCache(root, false);
+        write("referenced.json", "{\"v\":2}");
+
+        cache.refresh("referenced.json");
+
+        assertEquals("{\"v\":2}", text(cache.get("referenced.json")));
+    }
+
+    @Test
+    void referencedTemplateIsReloadedAfterBeingRecreated() throws IOException {
+        ResponseTemplateCache cache = new ResponseTemplateCache(root, false);
+
+        Files.delete(files.resolve("table.json"));
+        cache.refresh("table.json");
+        assertEquals(1, cache.size());
+
+        write("table.json", "{\"v\":3}");
+        cache.refresh("table.json");
+        assertEquals(2, cache.size());
+        assertEquals("{\"v\":3}", text(cache.get("table.json")));
+    }
+
+    @Test
+    void templatesLoadedOnFirstUseAreRefreshedUntilDeleted() throws IOException {
+        ResponseTemplateCache cache = new ResponseTemplateCache(root, false);
+        write("lazy.json", "{\"v\":1}");
+        cache.get("lazy.json");
+
+        write("lazy.json", "{\"v\":2}");
+        cache.refresh("lazy.json");
+        assertEquals("{\"v\":2}", text(cache.get("lazy.json")));
+
+        Files.delete(files.resolve("lazy.json"));
+        cache.refresh("lazy.json");
+        write("lazy.json", "{\"v\":3}");
+        cache.refresh("lazy.json");
+        assertEquals(2, cache.size());
+
+        Files.delete(files.resolve("lazy.json"));
+        cache.refresh("lazy.json");
+        assertThrows(NoSuchFileException.class, () -> cache.get("lazy.json"));
+    }
+}
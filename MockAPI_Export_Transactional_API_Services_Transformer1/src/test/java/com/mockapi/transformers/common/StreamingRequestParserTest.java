@@ -0,0 +1,92 @@
+package com.mockapi.transformers.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamingRequestParserTest {
+
+    private static final RequestSchema SCHEMA = RequestSchema.of("irmNumber", "fircAmount")
+            .withItems("invoiceList", "invoiceNumber");
+
+    private static byte[] body(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void readsHeaderAndSchemaFieldsOnly() throws IOException {
+        ParsedRequest parsed = StreamingRequestParser.parse(body(
+                "{\"request-header\":{\"request-id\":\"R1\",\"service-name\":\"IRM_ADJUSTMENT\",\"extra\":\"x\"},"
+                + "\"other\":{\"irmNumber\":\"ignored\"},"
+                + "\"service-input\":{\"irmNumber\":\"IRM1\",\"unknown\":[1,2],\"fircAmount\":12.5}}"),
+                SCHEMA, 1024);
+
+        assertEquals("R1", parsed.header().get("request-id"));
+        assertEquals("IRM_ADJUSTMENT", parsed.header().get("service-name"));
+        assertNull(parsed.header().get("extra"));
+        assertEquals("IRM1", parsed.input().get("irmNumber"));
+        assertEquals("12.5", parsed.input().get("fircAmount"));
+        assertFalse(parsed.hasItems());
+    }
+
+    @Test
+    void nullIsAbsentAndContainersAreEmptyText() throws IOException {
+        ParsedRequest parsed = StreamingRequestParser.parse(body(
+                "{\"service-input\":{\"irmNumber\":null,\"fircAmount\":{\"a\":1}}}"), SCHEMA, 1024);
+
+        assertNull(parsed.input().get("irmNumber"));
+        assertEquals("", parsed.input().text("irmNumber"));
+        assertEquals("", parsed.input().get("fircAmount"));
+    }
+
+    @Test
+    void readsEveryItemOfTheRepeatedArray() throws IOException {
+        ParsedRequest parsed = StreamingRequestParser.parse(body(
+                "{\"service-input\":{\"invoiceList\":[{\"invoiceNumber\":\"INV1\"},\"junk\",{}]}}"),
+                SCHEMA, 1024);
+
+        assertTrue(parsed.hasItems());
+        assertEquals(3, parsed.items().size());
+        assertEquals("INV1", parsed.items().get(0).get("invoiceNumber"));
+        assertNull(parsed.items().get(1).get("invoiceNumber"));
+        assertNull(parsed.items().get(2).get("invoiceNumber"));
+    }
+
+    @Test
+    void emptyOrNonObjectBodiesParseToNothing() throws IOException {
+        assertNull(StreamingRequestParser.parse(new byte[0], SCHEMA, 1024).header().get("request-id"));
+        assertNull(StreamingRequestParser.parse(body("[1,2]"), SCHEMA, 1024).input().get("irmNumber"));
+    }
+
+    @Test
+    void headerParseStopsAfterTheHeader() throws IOException {
+        // the malformed tail is never read
+        FieldValues header = StreamingRequestParser.parseHeader(body(
+                "{\"request-header\":{\"request-id\":\"R2\"},\"service-input\":{\"irmNumber\":"), 1024);
+
+        assertEquals("R2", header.get("request-id"));
+    }
+
+    @Test
+    void malformedBodyIsAnError() {
+        assertThrows(IOException.class, () -> StreamingRequestParser.parse(
+                body("{\"service-input\":{\"irmNumber\":}"), SCHEMA, 1024));
+    }
+
+    @Test
+    void bodiesOverTheLimitAreRejected() {
+        RequestBodyTooLargeException e = assertThrows(RequestBodyTooLargeException.class,
+                () -> StreamingRequestParser.parse(body("{\"request-header\":{}}"), SCHEMA, 8));
+        assertEquals(8, e.getLimit());
+
+        assertThrows(RequestBodyTooLargeException.class,
+                () -> StreamingRequestParser.parseHeader(body("{\"request-header\":{}}"), 8));
+    }
+}
@@ -0,0 +1,38 @@
+package com.mockapi.transformers.journal;
+
+import com.mockapi.transformers.common.Outcome;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TransactionJournalTest {
+
+    @Test
+    void bufferSizeRejectsCapacitiesThatOverflow() {
+        int max = Integer.MAX_VALUE / TransactionJournal.RECORD_SIZE;
+
+        assertEquals(max * TransactionJournal.RECORD_SIZE, TransactionJournal.bufferSize(max));
+        assertThrows(IllegalArgumentException.class, () -> TransactionJournal.bufferSize(max + 1));
+        assertThrows(IllegalArgumentException.class, () -> TransactionJournal.bufferSize(0));
+    }
+
+    @Test
+    void keepsTheNewestRecordsWhenTheRingWraps() {
+        TransactionJournal journal = new TransactionJournal(
+                ByteBuffer.allocateDirect(TransactionJournal.bufferSize(4)));
+
+        for (int i = 0; i < 6; i++) {
+            journal.append("export-service-router", "REQ-" + i, "irm-adjustment", Outcome.SUCCESS, "", 1000);
+        }
+
+        List<JournalRecord> records = journal.query(null, null, Long.MAX_VALUE, 10);
+        assertEquals(6, journal.size());
+        assertEquals(4, records.size());
+        assertEquals("REQ-5", records.get(0).getRequestId());
+        assertEquals("REQ-2", records.get(3).getRequestId());
+    }
+}
@@ -0,0 +1,96 @@
+package com.mockapi.transformers.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void valuesBelow128AreExact() {
+        for (long value = 0; value < 128; value++) {
+            assertEquals(value, LatencyHistogram.index(value));
+            assertEquals(value, LatencyHistogram.highestValue((int) value));
+        }
+        assertEquals(128, LatencyHistogram.index(128));
+    }
+
+    @Test
+    void bucketsAreContiguousAndWithinRelativeError() {
+        int previous = -1;
+        for (long value = 0; value < 1L << 40; value = value < 1024 ? value + 1 : value + value / 97) {
+            int index = LatencyHistogram.index(value);
+            assertTrue(index >= previous, "index decreased at " + value);
+            previous = index;
+
+            long highest = LatencyHistogram.highestValue(index);
+            assertTrue(highest >= value, "bucket of " + value + " ends at " + highest);
+            assertTrue(highest - value <= value / 64, "bucket of " + value + " is too wide: " + highest);
+            if (index > 0) {
+                assertTrue(LatencyHistogram.highestValue(index - 1) < value,
+                        "previous bucket already covers " + value);
+            }
+        }
+    }
+
+    @Test
+    void powersOfTwoStartABucket() {
+        for (int bit = 7; bit < 40; bit++) {
+            long value = 1L << bit;
+            assertEquals(value - 1, LatencyHistogram.highestValue(LatencyHistogram.index(value) - 1));
+        }
+    }
+
+    @Test
+    void hugeValuesLandInTheLastBucket() {
+        int last = LatencyHistogram.index(Long.MAX_VALUE);
+        assertEquals(last, LatencyHistogram.index(1L << 50));
+        assertTrue(LatencyHistogram.index(1L << 40) <= last);
+    }
+
+    @Test
+    void percentilesOfAUniformRecording() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 1000; micros++) {
+            histogram.record(micros * 1000);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(1_000_000, snapshot.getMaxNanos());
+        assertEquals(500_500.0, snapshot.getMeanNanos(), 0.001);
+        assertWithin(500_000, snapshot.percentile(50));
+        assertWithin(990_000, snapshot.percentile(99));
+        assertWithin(1000, snapshot.percentile(0));
+        assertEquals(1_000_000, snapshot.percentile(100));
+    }
+
+    @Test
+    void percentileNeverExceedsTheMaximum() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000_001);
+
+        assertEquals(1_000_001, histogram.snapshot().percentile(50));
+    }
+
+    @Test
+    void negativeValuesCountAsZeroAndResetEmpties() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        assertEquals(1, histogram.snapshot().getCount());
+        assertEquals(0, histogram.snapshot().percentile(100));
+
+        histogram.reset();
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getTotalNanos());
+        assertEquals(0, snapshot.percentile(99));
+        assertEquals(0.0, snapshot.getMeanNanos());
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(actual >= expected && actual - expected <= expected / 64,
+                "expected about " + expected + " but was " + actual);
+    }
+}
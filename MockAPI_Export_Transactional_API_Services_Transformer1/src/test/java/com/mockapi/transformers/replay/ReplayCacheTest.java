@@ -0,0 +1,94 @@
+package com.mockapi.transformers.replay;
+
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.http.ImmutableRequest;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.mockapi.transformers.common.FieldValues;
+import com.mockapi.transformers.common.StreamingRequestParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplayCacheTest {
+
+    private static final Parameters IDEMPOTENT = Parameters.from(Map.of("idempotent", true));
+
+    private static final byte[] BODY = "{\"status\":\"SUCCESS\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final ReplayCache cache = new ReplayCache(1000, 1 << 20, TimeUnit.MINUTES.toNanos(5));
+
+    private static byte[] requestBody(String requestId) {
+        String header = requestId == null ? "{}" : "{\"request-id\":\"" + requestId + "\"}";
+        return ("{\"request-header\":" + header + ",\"service-input\":{}}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Request request(String requestId) {
+        return ImmutableRequest.create()
+                .withAbsoluteUrl("http://localhost/trracsapiserv/bankname/apiservices/export-transaction-api-serv/irm-adjustment")
+                .withMethod(RequestMethod.POST)
+                .withBody(requestBody(requestId))
+                .build();
+    }
+
+    private static FieldValues header(String requestId) throws IOException {
+        return StreamingRequestParser.parseHeader(requestBody(requestId), Integer.MAX_VALUE);
+    }
+
+    @Test
+    void retryOfTheSameRequestIdIsAHit() throws IOException {
+        cache.store("irm-adjustment", header("R1"), IDEMPOTENT, BODY);
+
+        CachedResponse cached = cache.lookup("irm-adjustment", request("R1"), IDEMPOTENT);
+        assertArrayEquals(BODY, cached.getBody());
+        assertEquals("R1", cached.getRequestHeader().get("request-id"));
+    }
+
+    @Test
+    void otherRequestIdsAndServicesMiss() throws IOException {
+        cache.store("irm-adjustment", header("R1"), IDEMPOTENT, BODY);
+
+        assertNull(cache.lookup("irm-adjustment", request("R2"), IDEMPOTENT));
+        assertNull(cache.lookup("irm-extension", request("R1"), IDEMPOTENT));
+    }
+
+    @Test
+    void nothingIsKeptWithoutReplayOrRequestId() throws IOException {
+        cache.store("irm-adjustment", header("R1"), Parameters.empty(), BODY);
+        cache.store("irm-adjustment", header(null), IDEMPOTENT, BODY);
+
+        assertEquals(0, cache.size());
+        assertNull(cache.lookup("irm-adjustment", request(null), IDEMPOTENT));
+
+        cache.store("irm-adjustment", header("R1"), IDEMPOTENT, BODY);
+        assertNull(cache.lookup("irm-adjustment", request("R1"), Parameters.empty()));
+    }
+
+    @Test
+    void expiredEntriesMiss() throws IOException {
+        ReplayCache expiring = new ReplayCache(1000, 1 << 20, -1);
+        expiring.store("irm-adjustment", header("R1"), IDEMPOTENT, BODY);
+
+        assertNull(expiring.lookup("irm-adjustment", request("R1"), IDEMPOTENT));
+        assertEquals(0, expiring.size());
+    }
+
+    @Test
+    void evictsBeyondTheEntryLimit() throws IOException {
+        // one entry per segment
+        ReplayCache small = new ReplayCache(16, 1 << 20, TimeUnit.MINUTES.toNanos(5));
+        for (int i = 0; i < 200; i++) {
+            small.store("irm-adjustment", header("R" + i), IDEMPOTENT, BODY);
+        }
+        assertTrue(small.size() <= 16, "at most one entry in each of the 16 segments");
+        assertNull(small.lookup("irm-adjustment", request("R0"), IDEMPOTENT));
+    }
+}
@@ -0,0 +1,110 @@
+package com.mockapi.transformers.routing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.mockapi.transformers.tenant.BankProfile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchResultsTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static String line(String requestId, String serviceName) {
+        return "{\"request-header\":{\"request-id\":\"" + requestId + "\",\"service-name\":\"" + serviceName + "\"},"
+                + "\"service-input\":{}}";
+    }
+
+    private static List<JsonNode> run(Parameters parameters, String... lines) throws IOException {
+        byte[] input = String.join("\n", lines).getBytes(StandardCharsets.UTF_8);
+        String results = new String(
+                new BatchResults(input, new RouteTable(parameters), BankProfile.DEFAULT).build(),
+                StandardCharsets.UTF_8);
+
+        List<JsonNode> records = new ArrayList<>();
+        for (String record : results.split("\n")) {
+            if (!record.isEmpty()) {
+                records.add(mapper.readTree(record));
+            }
+        }
+        return records;
+    }
+
+    @Test
+    void routesEachLineByItsServiceName() throws IOException {
+        List<JsonNode> records = run(Parameters.empty(),
+                line("B1", "IRM_ADJUSTMENT"),
+                line("B2", "IRM_EXTENSION"));
+
+        assertEquals(2, records.size());
+        assertEquals(1, records.get(0).path("line").asInt());
+        assertEquals(200, records.get(0).path("status").asInt());
+        JsonNode first = records.get(0).path("body");
+        assertEquals("B1", first.path("response-header").path("req-hdr-request-id").asText());
+        assertEquals("IRM_ADJUSTMENT", first.path("service-output").path("process_name").asText());
+        assertTrue(first.path("service-output").path("error-code").asText().startsWith("EM_HDR_062,"));
+
+        assertEquals(2, records.get(1).path("line").asInt());
+        JsonNode second = records.get(1).path("body");
+        assertEquals("B2", second.path("response-header").path("req-hdr-request-id").asText());
+        assertEquals("IRM_EXTENSION", second.path("service-output").path("process_name").asText());
+        assertTrue(second.path("service-output").path("error-code").asText().startsWith("IM_HDR_001,"));
+    }
+
+    @Test
+    void malformedAndUnknownLinesKeepTheirLineNumbers() throws IOException {
+        List<JsonNode> records = run(Parameters.empty(),
+                "{\"request-header\":{\"service-name\":\"NO_SUCH_SERVICE\"}}",
+                "",
+                "{not json",
+                "   ",
+                line("B3", "IRM_EXTENSION"));
+
+        assertEquals(3, records.size());
+        assertEquals(1, records.get(0).path("line").asInt());
+        assertEquals(404, records.get(0).path("status").asInt());
+        assertEquals("Unknown export transaction service", records.get(0).path("body").path("error").asText());
+
+        assertEquals(3, records.get(1).path("line").asInt());
+        assertEquals(400, records.get(1).path("status").asInt());
+        assertEquals("Invalid JSON line", records.get(1).path("body").path("error").asText());
+
+        assertEquals(5, records.get(2).path("line").asInt());
+        assertEquals(200, records.get(2).path("status").asInt());
+    }
+
+    @Test
+    void lineOverTheBodyLimitIsRejected() throws IOException {
+        List<JsonNode> records = run(Parameters.from(Map.of("maxBodyBytes", 10)), line("B4", "IRM_EXTENSION"));
+
+        assertEquals(1, records.size());
+        assertEquals(413, records.get(0).path("status").asInt());
+    }
+
+    @Test
+    void lineLimitCountsOnlyNonBlankLines() {
+        byte[] input = (line("B5", "IRM_EXTENSION") + "\n\n   \n" + line("B6", "IRM_EXTENSION") + "\n")
+                .getBytes(StandardCharsets.UTF_8);
+        BatchResults batch = new BatchResults(input, new RouteTable(Parameters.empty()), BankProfile.DEFAULT);
+
+        assertFalse(batch.exceeds(2));
+        assertTrue(batch.exceeds(1));
+        assertEquals(BatchResults.DEFAULT_MAX_LINES, BatchResults.maxLines(Parameters.empty()));
+        assertEquals(5, BatchResults.maxLines(Parameters.from(Map.of("maxBatchLines", 5))));
+    }
+
+    @Test
+    void emptyBatchHasNoRecords() throws IOException {
+        assertTrue(run(Parameters.empty(), "", "  ").isEmpty());
+    }
+}
@@ -0,0 +1,57 @@
+package com.mockapi.transformers.routing;
+
+import com.github.tomakehurst.wiremock.http.ImmutableRequest;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BatchTransformerTest {
+
+    private static final String URL =
+            "http://localhost/trracsapiserv/somebank/apiservices/export-transaction-api-serv/batch";
+
+    private static final String LINE =
+            "{\"request-header\":{\"request-id\":\"B1\",\"service-name\":\"IRM_EXTENSION\"},\"service-input\":{}}";
+
+    private static Response transform(Map<String, Object> parameters, String body) {
+        StubMapping stub = any(anyUrl())
+                .willReturn(aResponse().withStatus(200).withTransformerParameters(parameters))
+                .build();
+        ServeEvent serveEvent = ServeEvent.of(ImmutableRequest.create()
+                        .withAbsoluteUrl(URL)
+                        .withMethod(RequestMethod.POST)
+                        .withBody(body.getBytes(StandardCharsets.UTF_8))
+                        .build())
+                .withStubMapping(stub)
+                .withResponseDefinition(stub.getResponse());
+
+        return new BatchTransformer().transform(Response.response().status(200).build(), serveEvent);
+    }
+
+    @Test
+    void batchWithinTheLineLimitIsAnswered() {
+        Response response = transform(Map.of("maxBatchLines", 2), LINE + "\n\n  \n" + LINE + "\n");
+
+        assertEquals(200, response.getStatus());
+        assertEquals(BatchTransformer.CONTENT_TYPE, response.getHeaders().getContentTypeHeader().firstValue());
+        assertEquals(2, response.getBodyAsString().split("\n").length);
+    }
+
+    @Test
+    void batchOverTheLineLimitIsRefused() {
+        Response response = transform(Map.of("maxBatchLines", 2), LINE + "\n" + LINE + "\n" + LINE);
+
+        assertEquals(413, response.getStatus());
+        assertEquals("{\"error\":\"Batch too large\"}", response.getBodyAsString());
+    }
+}
@@ -0,0 +1,73 @@
+package com.mockapi.transformers.routing;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PathTrieTest {
+
+    private static String match(PathTrie<String> trie, String path) {
+        return trie.match(path, path.length());
+    }
+
+    @Test
+    void literalPatternsMatchTheWholePath() {
+        PathTrie<String> trie = new PathTrie<>();
+        trie.add("/a/irm", "irm");
+        trie.add("/a/irm-extension", "extension");
+
+        assertEquals("irm", match(trie, "/a/irm"));
+        assertEquals("extension", match(trie, "/a/irm-extension"));
+        assertNull(match(trie, "/a/ir"));
+        assertNull(match(trie, "/a/irm-ext"));
+        assertNull(match(trie, "/b/irm"));
+    }
+
+    @Test
+    void trailingSlashPatternMatchesAsAPrefixAndTheLongestWins() {
+        PathTrie<String> trie = new PathTrie<>();
+        trie.add("/a/", "prefix");
+        trie.add("/a/irm", "irm");
+
+        assertEquals("prefix", match(trie, "/a/"));
+        assertEquals("prefix", match(trie, "/a/other"));
+        assertEquals("irm", match(trie, "/a/irm"));
+        assertEquals("prefix", match(trie, "/a/irmx"));
+    }
+
+    @Test
+    void wildcardMatchesOneSegmentWhenNoLiteralDoes() {
+        PathTrie<String> trie = new PathTrie<>();
+        trie.add("/t/*/s/irm", "any bank");
+        trie.add("/t/hdfc/s/irm", "hdfc");
+
+        assertEquals("hdfc", match(trie, "/t/hdfc/s/irm"));
+        assertEquals("any bank", match(trie, "/t/icici/s/irm"));
+        assertEquals("any bank", match(trie, "/t/hdfcx/s/irm"));
+        assertEquals("any bank", match(trie, "/t/hd/s/irm"));
+        assertNull(match(trie, "/t//s/irm"));
+        assertNull(match(trie, "/t/a/b/s/irm"));
+    }
+
+    @Test
+    void literalBankFallsBackToTheWildcardForOtherServices() {
+        PathTrie<String> trie = new PathTrie<>();
+        trie.add("/t/*/s/", "any bank");
+        trie.add("/t/*/s/irm", "any bank irm");
+        trie.add("/t/hdfc/s/", "hdfc");
+
+        assertEquals("hdfc", match(trie, "/t/hdfc/s/irm"));
+        assertEquals("any bank irm", match(trie, "/t/icici/s/irm"));
+    }
+
+    @Test
+    void matchesOnlyUpToTheGivenEnd() {
+        PathTrie<String> trie = new PathTrie<>();
+        trie.add("/a/irm", "irm");
+
+        String url = "/a/irm?x=1";
+        assertEquals("irm", trie.match(url, url.indexOf('?')));
+        assertNull(trie.match(url, url.length()));
+    }
+}
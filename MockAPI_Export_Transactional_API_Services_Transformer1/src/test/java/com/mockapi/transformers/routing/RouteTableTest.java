@@ -0,0 +1,68 @@
+package com.mockapi.transformers.routing;
+
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.http.ImmutableRequest;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.mockapi.transformers.common.RequestScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RouteTableTest {
+
+    private static final String BASE = "http://localhost/trracsapiserv/";
+
+    private final RouteTable routes = new RouteTable(Parameters.empty());
+
+    private static Request request(String url, String serviceName) {
+        String body = "{\"request-header\":{\"service-name\":\"" + serviceName + "\"},\"service-input\":{}}";
+        return ImmutableRequest.create()
+                .withAbsoluteUrl(url)
+                .withMethod(RequestMethod.POST)
+                .withBody(body.getBytes(StandardCharsets.UTF_8))
+                .build();
+    }
+
+    @AfterEach
+    void clearScope() {
+        RequestScope.clear();
+    }
+
+    @Test
+    void serviceSegmentSelectsTheHandler() throws IOException {
+        ServiceRoutes.Route route = routes.route(request(
+                BASE + "somebank/apiservices/export-transaction-api-serv/irm-extension?x=1", "IRM_ADJUSTMENT"));
+
+        assertEquals("irm-extension", route.handler.getService());
+        assertNull(route.bank);
+    }
+
+    @Test
+    void unknownServiceSegmentFallsBackToTheServiceName() throws IOException {
+        ServiceRoutes.Route route = routes.route(request(
+                BASE + "somebank/apiservices/export-transaction-api-serv/router", " IRM_ADJUSTMENT "));
+
+        assertEquals("irm-adjustment", route.handler.getService());
+    }
+
+    @Test
+    void pathOutsideTheServicesTreeUsesItsLastSegment() throws IOException {
+        ServiceRoutes.Route route = routes.route(request("http://localhost/mock/efirc-issuance", "IRM_ADJUSTMENT"));
+
+        assertEquals("efirc-issuance", route.handler.getService());
+        assertNull(route.bank);
+    }
+
+    @Test
+    void noServiceAnywhereIsNoRoute() throws IOException {
+        assertNull(routes.route(request(
+                BASE + "somebank/apiservices/export-transaction-api-serv/router", "NO_SUCH_SERVICE")));
+        assertNull(routes.route(request("http://localhost/mock/unknown", "NO_SUCH_SERVICE")));
+    }
+}
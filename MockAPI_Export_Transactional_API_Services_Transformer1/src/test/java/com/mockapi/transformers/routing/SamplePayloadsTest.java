@@ -0,0 +1,102 @@
+package com.mockapi.transformers.routing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.http.ImmutableRequest;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.mockapi.transformers.common.RequestScope;
+import com.mockapi.transformers.tenant.BankProfile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Every sample payload reaches its service through the batch and through the
+ * router's service-name fallback.
+ */
+class SamplePayloadsTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static final String ROUTER_URL =
+            "http://localhost/trracsapiserv/somebank/apiservices/export-transaction-api-serv/router";
+
+    private final RouteTable routes = new RouteTable(Parameters.empty());
+
+    private static List<Path> payloads() throws IOException, URISyntaxException {
+        Path dir = Paths.get(SamplePayloadsTest.class.getResource("/payloads").toURI());
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(file -> file.toString().endsWith(".json")).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static String body(Path payload) throws IOException {
+        return new String(Files.readAllBytes(payload), StandardCharsets.UTF_8)
+                .replace("${requestId}", "SAMPLE-" + payload.getFileName())
+                .trim();
+    }
+
+    /** {@code irm-adjustment} for {@code irm-adjustment.json} and {@code irm-adjustment-invalid.json}. */
+    private static String service(Path payload) {
+        return payload.getFileName().toString().replace(".json", "").replace("-invalid", "");
+    }
+
+    @AfterEach
+    void clearScope() {
+        RequestScope.clear();
+    }
+
+    @Test
+    void routerFindsTheServiceOfEveryPayload() throws IOException, URISyntaxException {
+        List<Path> payloads = payloads();
+        assertFalse(payloads.isEmpty());
+
+        for (Path payload : payloads) {
+            ServiceRoutes.Route route = routes.route(ImmutableRequest.create()
+                    .withAbsoluteUrl(ROUTER_URL)
+                    .withMethod(RequestMethod.POST)
+                    .withBody(body(payload).getBytes(StandardCharsets.UTF_8))
+                    .build());
+            RequestScope.clear();
+
+            assertNotNull(route, payload.getFileName().toString());
+            assertEquals(service(payload), route.handler.getService(), payload.getFileName().toString());
+        }
+    }
+
+    @Test
+    void batchAnswersEveryPayload() throws IOException, URISyntaxException {
+        List<Path> payloads = payloads();
+        StringBuilder batch = new StringBuilder();
+        for (Path payload : payloads) {
+            batch.append(body(payload)).append('\n');
+        }
+
+        byte[] results = new BatchResults(batch.toString().getBytes(StandardCharsets.UTF_8),
+                routes, BankProfile.DEFAULT).build();
+        String[] records = new String(results, StandardCharsets.UTF_8).split("\n");
+
+        assertEquals(payloads.size(), records.length);
+        for (int i = 0; i < records.length; i++) {
+            JsonNode record = mapper.readTree(records[i]);
+            String name = payloads.get(i).getFileName().toString();
+            assertEquals(200, record.path("status").asInt(), name);
+            assertEquals(name.contains("-invalid") ? "VALIDATION_FAILED" : "NEW",
+                    record.path("body").path("service-output").path("process_status").asText(), name);
+        }
+    }
+}
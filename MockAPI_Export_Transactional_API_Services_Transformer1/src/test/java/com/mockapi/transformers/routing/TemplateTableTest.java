@@ -0,0 +1,65 @@
+package com.mockapi.transformers.routing;
+
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.mockapi.transformers.validation.ErrorCodes;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TemplateTableTest {
+
+    private static TemplateTable table(Map<String, Object> parameters) {
+        return new TemplateTable(Parameters.from(parameters), "success.json", "fail.json");
+    }
+
+    @Test
+    void firstErrorCodeSelectsItsFailTemplate() {
+        TemplateTable table = table(Map.of("failFiles", Map.of(
+                "EM_HDR_062", "irm-adjustment-fail-response2.json",
+                "EM_HDR_063", "irm-adjustment-fail-response3.json")));
+
+        assertEquals("irm-adjustment-fail-response2.json", table.failFile(ErrorCodes.id("EM_HDR_062")));
+        assertEquals("irm-adjustment-fail-response3.json", table.failFile(ErrorCodes.id("EM_HDR_063")));
+    }
+
+    @Test
+    void unlistedOrMissingCodeUsesTheDefaultFailTemplate() {
+        TemplateTable table = table(Map.of(
+                "failFile", "mapping-fail.json",
+                "failFiles", Map.of("EM_HDR_062", "irm-adjustment-fail-response2.json")));
+
+        assertEquals("mapping-fail.json", table.failFile(ErrorCodes.id("EM_HDR_064")));
+        assertEquals("mapping-fail.json", table.failFile(-1));
+        assertEquals("mapping-fail.json", table.failFile(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void codeRegisteredAfterTheTableUsesTheDefault() {
+        TemplateTable table = table(Map.of("failFiles", Map.of("EM_HDR_062", "irm-adjustment-fail-response2.json")));
+
+        assertEquals("fail.json", table.failFile(ErrorCodes.id("TT_LATE_001")));
+    }
+
+    @Test
+    void malformedTablesAreIgnored() {
+        assertEquals("fail.json", table(Map.of("failFiles", "not-a-table"))
+                .failFile(ErrorCodes.id("EM_HDR_062")));
+        assertEquals("fail.json", table(Map.of("failFiles", Map.of("EM_HDR_062", 7)))
+                .failFile(ErrorCodes.id("EM_HDR_062")));
+    }
+
+    @Test
+    void defaultsApplyWithoutParameters() {
+        Parameters parameters = Parameters.empty();
+        TemplateTable table = new TemplateTable(parameters, "success.json", "fail.json");
+
+        assertEquals("success.json", table.successFile());
+        assertEquals("fail.json", table.failFile(ErrorCodes.id("EM_HDR_062")));
+        assertTrue(table.isFor(parameters));
+        assertFalse(table.isFor(Parameters.empty()));
+    }
+}
@@ -0,0 +1,119 @@
+package com.mockapi.transformers.shaping;
+
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.http.DelayDistribution;
+import com.mockapi.transformers.common.Outcome;
+import com.mockapi.transformers.common.ServiceResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResponseShapingTest {
+
+    private static Map<String, Object> fixed(int milliseconds) {
+        return Map.of("type", "fixed", "milliseconds", milliseconds);
+    }
+
+    @Test
+    void noProfileMeansNoDelayAndNoInjection() {
+        for (ResponseShaping shaping : new ResponseShaping[]{
+                ResponseShaping.of(null), ResponseShaping.of(Parameters.empty())}) {
+            assertNull(shaping.inject());
+            for (Outcome outcome : Outcome.values()) {
+                assertEquals(0, shaping.sampleMillis(outcome));
+            }
+        }
+    }
+
+    @Test
+    void outcomesWithoutAnEntryUseTheDefault() {
+        ResponseShaping shaping = ResponseShaping.of(Parameters.from(Map.of(
+                "latency", Map.of("success", fixed(120), "default", fixed(50)))));
+
+        assertEquals(120, shaping.sampleMillis(Outcome.SUCCESS));
+        assertEquals(50, shaping.sampleMillis(Outcome.FAIL));
+        assertEquals(50, shaping.sampleMillis(Outcome.INJECTED));
+    }
+
+    @Test
+    void uniformSamplesStayWithinTheirBounds() {
+        ResponseShaping shaping = ResponseShaping.of(Parameters.from(Map.of(
+                "latency", Map.of("fail", Map.of("type", "uniform", "lower", 200, "upper", 450)))));
+
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < 10_000; i++) {
+            long millis = shaping.sampleMillis(Outcome.FAIL);
+            min = Math.min(min, millis);
+            max = Math.max(max, millis);
+        }
+        assertTrue(min >= 200 && max <= 450, min + ".." + max);
+        assertTrue(max - min > 200, "samples barely spread: " + min + ".." + max);
+        assertEquals(0, shaping.sampleMillis(Outcome.SUCCESS));
+    }
+
+    @Test
+    void lognormalSamplesCentreOnTheMedian() {
+        ResponseShaping shaping = ResponseShaping.of(Parameters.from(Map.of(
+                "latency", Map.of("success", Map.of("type", "lognormal", "median", 120, "sigma", 0.3)))));
+
+        int below = 0;
+        int samples = 20_000;
+        for (int i = 0; i < samples; i++) {
+            if (shaping.sampleMillis(Outcome.SUCCESS) < 120) {
+                below++;
+            }
+        }
+        assertTrue(below > samples * 0.4 && below < samples * 0.6, below + " of " + samples + " below the median");
+    }
+
+    @Test
+    void spikesAddTheSpikeDelay() {
+        ResponseShaping always = ResponseShaping.of(Parameters.from(Map.of(
+                "latency", Map.of("default", fixed(10), "spikeRate", 1, "spike", fixed(3000)))));
+        assertEquals(3010, always.sampleMillis(Outcome.SUCCESS));
+
+        DelayDistribution never = new SpikeDelay(null, () -> 3000, 0);
+        assertEquals(0, never.sampleMillis());
+    }
+
+    @Test
+    void errorRateOneAlwaysInjectsTheConfiguredStatus() {
+        ResponseShaping shaping = ResponseShaping.of(Parameters.from(Map.of(
+                "latency", Map.of("injected", fixed(25)),
+                "inject", Map.of("errorRate", 1, "errorStatus", 503))));
+
+        ServiceResponse injected = shaping.inject();
+        assertEquals(503, injected.getStatus());
+        assertEquals(25, injected.getDelayMillis());
+    }
+
+    @Test
+    void faultRateOneAlwaysInjectsAFault() {
+        ResponseShaping shaping = ResponseShaping.of(Parameters.from(Map.of(
+                "inject", Map.of("faultRate", 1, "fault", "EMPTY_RESPONSE"))));
+
+        ServiceResponse injected = shaping.inject();
+        assertEquals(500, injected.getStatus());
+        assertEquals(0, injected.getBody().length);
+    }
+
+    @Test
+    void sameConfigurationSharesOneProfile() {
+        Map<String, Object> latency = Map.of("default", fixed(5));
+        assertSame(ResponseShaping.of(Parameters.from(Map.of("latency", latency))),
+                ResponseShaping.of(Parameters.from(Map.of("latency", Map.of("default", fixed(5))))));
+    }
+
+    @Test
+    void ratesOutsideZeroToOneAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> ResponseShaping.of(Parameters.from(Map.of(
+                "inject", Map.of("errorRate", 1.5)))));
+    }
+}
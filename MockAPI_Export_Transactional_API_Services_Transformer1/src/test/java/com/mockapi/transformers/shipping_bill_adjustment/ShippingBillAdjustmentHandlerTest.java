@@ -0,0 +1,73 @@
+package com.mockapi.transformers.shipping_bill_adjustment;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.http.ImmutableRequest;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.mockapi.transformers.common.RequestScope;
+import com.mockapi.transformers.common.ServiceResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShippingBillAdjustmentHandlerTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final ShippingBillAdjustmentHandler handler = new ShippingBillAdjustmentHandler();
+
+    private static String payload() throws IOException {
+        try (InputStream in = ShippingBillAdjustmentHandlerTest.class.getClassLoader()
+                .getResourceAsStream("payloads/shipping-bill-adjustment.json")) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).replace("${requestId}", "SB-1");
+        }
+    }
+
+    private JsonNode serviceOutput(String body) throws IOException {
+        Request request = ImmutableRequest.create()
+                .withAbsoluteUrl("http://localhost/trracsapiserv/bankname/apiservices/export-transaction-api-serv/shipping-bill-adjustment")
+                .withMethod(RequestMethod.POST)
+                .withBody(body.getBytes(StandardCharsets.UTF_8))
+                .build();
+        ServiceResponse response = handler.handle(request, Parameters.empty());
+        assertEquals(200, response.getStatus());
+        return mapper.readTree(response.getBody()).path("service-output");
+    }
+
+    @AfterEach
+    void clearScope() {
+        RequestScope.clear();
+    }
+
+    @Test
+    void validPayloadSucceeds() throws IOException {
+        JsonNode output = serviceOutput(payload());
+
+        assertEquals("NEW", output.path("process_status").asText());
+    }
+
+    @Test
+    void invoiceOnlyFailureReplacesTheTemplateErrors() throws IOException {
+        String body = payload().replace("\"invoiceDate\":\"01/09/2026\"", "\"invoiceDate\":\"31/02/2026\"");
+        JsonNode output = serviceOutput(body);
+
+        assertEquals("VALIDATION_FAILED", output.path("process_status").asText());
+        assertEquals("EM_DET_028", output.path("errorCode").asText());
+        String description = output.path("errorDesc").asText();
+        assertTrue(description.startsWith("invoiceList[0]: ") && description.contains("Invoice Date")
+                && description.endsWith("."), description);
+
+        JsonNode invoices = output.path("invoiceList");
+        assertEquals(1, invoices.size());
+        assertEquals("INV1", invoices.get(0).path("invoiceNumber").asText());
+        assertEquals("EM_DET_028", invoices.get(0).path("errorCode").asText());
+    }
+}
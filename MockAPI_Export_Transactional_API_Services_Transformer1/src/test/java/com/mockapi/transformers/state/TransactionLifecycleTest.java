@@ -0,0 +1,128 @@
+package com.mockapi.transformers.state;
+
+import com.mockapi.transformers.common.FieldValues;
+import com.mockapi.transformers.common.RequestSchema;
+import com.mockapi.transformers.common.StreamingRequestParser;
+import com.mockapi.transformers.validation.ViolationListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransactionLifecycleTest {
+
+    private static final RequestSchema SCHEMA =
+            RequestSchema.of("fircNumber", "irmNumber", "fircAmount", "adjustedAmount");
+
+    private static final TransactionStore store = TransactionStore.getInstance();
+
+    private final List<String> codes = new ArrayList<>();
+    private final ViolationListener listener = (code, description) -> codes.add(code);
+
+    @BeforeEach
+    void clearStore() {
+        store.clear();
+    }
+
+    /** service-input of the given field/value pairs. */
+    private static FieldValues input(String... fields) throws IOException {
+        StringBuilder json = new StringBuilder("{\"service-input\":{");
+        for (int i = 0; i < fields.length; i += 2) {
+            if (i > 0) json.append(',');
+            json.append('"').append(fields[i]).append("\":\"").append(fields[i + 1]).append('"');
+        }
+        json.append("}}");
+        return StreamingRequestParser.parse(json.toString().getBytes(StandardCharsets.UTF_8), SCHEMA, 4096).input();
+    }
+
+    private boolean issue(String firc, String irm, String amount) throws IOException {
+        return TransactionLifecycle.issueFirc(
+                input("fircNumber", firc, "irmNumber", irm, "fircAmount", amount), listener);
+    }
+
+    @Test
+    void adjustmentsDrawDownTheIssuedFirc() throws IOException {
+        assertTrue(issue("F1", "IRM1", "100.00"));
+
+        assertTrue(TransactionLifecycle.adjustFirc(input("fircNumber", "F1", "adjustedAmount", "60"), listener));
+        assertFalse(TransactionLifecycle.adjustFirc(input("fircNumber", "F1", "adjustedAmount", "40.01"), listener));
+        assertTrue(TransactionLifecycle.adjustFirc(input("fircNumber", "F1", "adjustedAmount", "40"), listener));
+        assertFalse(TransactionLifecycle.adjustFirc(input("fircNumber", "F2", "adjustedAmount", "1"), listener));
+
+        assertEquals(List.of("EF_STA_002", "EF_STA_001"), codes);
+        assertEquals(0, store.get(Kind.FIRC, "F1").remaining());
+    }
+
+    @Test
+    void retriedIssuanceDoesNotAddTheAmountAgain() throws IOException {
+        assertTrue(issue("F1", "IRM1", "100.00"));
+        assertTrue(issue("F1", "IRM1", "100.00"));
+
+        assertEquals(List.of(), codes);
+        assertEquals(1_000_000, store.get(Kind.FIRC, "F1").getIssued());
+        assertEquals(1_000_000, store.get(Kind.IRM, "IRM1").getIssued());
+    }
+
+    @Test
+    void reissuingWithAnotherAmountIsRejected() throws IOException {
+        assertTrue(issue("F1", "IRM1", "100.00"));
+        assertFalse(issue("F1", "IRM1", "250.00"));
+
+        assertEquals(List.of("EF_STA_003"), codes);
+        assertEquals(1_000_000, store.get(Kind.IRM, "IRM1").getIssued());
+    }
+
+    @Test
+    void irmAddsUpDistinctFircs() throws IOException {
+        assertTrue(issue("F1", "IRM1", "100"));
+        assertTrue(issue("F2", "IRM1", "50"));
+
+        assertFalse(TransactionLifecycle.adjustIrm(input("irmNumber", "IRM1", "adjustedAmount", "150.0001"), listener));
+        assertTrue(TransactionLifecycle.adjustIrm(input("irmNumber", "IRM1", "adjustedAmount", "150"), listener));
+        assertFalse(TransactionLifecycle.adjustIrm(input("irmNumber", "IRM9", "adjustedAmount", "1"), listener));
+
+        assertTrue(TransactionLifecycle.extendIrm(input("irmNumber", "IRM1"), listener));
+        assertFalse(TransactionLifecycle.extendIrm(input("irmNumber", "IRM9"), listener));
+
+        assertEquals(List.of("IM_STA_002", "IM_STA_001", "IM_STA_001"), codes);
+    }
+
+    @Test
+    void parsesFixedPointAmounts() {
+        assertEquals(15_000_000, TransactionLifecycle.parseAmount(" 1500.00 "));
+        assertEquals(12_345, TransactionLifecycle.parseAmount("1.23456"));
+        assertEquals(10_000, TransactionLifecycle.parseAmount("1."));
+        assertEquals(-1, TransactionLifecycle.parseAmount("-1"));
+        assertEquals(-1, TransactionLifecycle.parseAmount("1.2.3"));
+        assertEquals(-1, TransactionLifecycle.parseAmount(""));
+        assertEquals(-1, TransactionLifecycle.parseAmount(null));
+    }
+
+    @Test
+    void snapshotRoundTrips(@TempDir Path dir) throws IOException {
+        TransactionStore original = new TransactionStore();
+        original.issue(Kind.FIRC, "F1", 1_000_000);
+        original.adjust(Kind.FIRC, "F1", 400_000);
+        original.touch(Kind.SHIPPING_BILL, "INBOM4/1234567");
+
+        Path file = dir.resolve("state.bin");
+        assertEquals(2, StoreSnapshot.write(file, original));
+
+        TransactionStore loaded = new TransactionStore();
+        assertEquals(2, StoreSnapshot.read(file, loaded));
+        assertEquals(600_000, loaded.get(Kind.FIRC, "F1").remaining());
+        assertEquals(2, loaded.get(Kind.FIRC, "F1").getEvents());
+        assertEquals(1, loaded.get(Kind.SHIPPING_BILL, "INBOM4/1234567").getEvents());
+        assertNull(loaded.get(Kind.IRM, "F1"));
+    }
+}
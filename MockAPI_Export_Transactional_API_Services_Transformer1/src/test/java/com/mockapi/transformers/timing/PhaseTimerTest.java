@@ -0,0 +1,43 @@
+package com.mockapi.transformers.timing;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PhaseTimerTest {
+
+    private static String metric(long nanos) {
+        StringBuilder header = new StringBuilder();
+        PhaseTimer.appendMetric(header, "parse", nanos);
+        return header.toString();
+    }
+
+    @Test
+    void metricsAreMillisecondsToThreeDecimals() {
+        assertEquals("parse;dur=0.182", metric(182_000));
+        assertEquals("parse;dur=0.005", metric(5_999));
+        assertEquals("parse;dur=0.050", metric(50_000));
+        assertEquals("parse;dur=0.000", metric(999));
+        assertEquals("parse;dur=1234.567", metric(1_234_567_000));
+    }
+
+    @Test
+    void metricsAreCommaSeparated() {
+        StringBuilder header = new StringBuilder();
+        PhaseTimer.appendMetric(header, "parse", 182_000);
+        PhaseTimer.appendMetric(header, "total", 264_000);
+
+        assertEquals("parse;dur=0.182, total;dur=0.264", header.toString());
+    }
+
+    @Test
+    void disabledTimerReportsNothing() {
+        // timing is off unless -Dmockapi.timing=true
+        PhaseTimer.begin();
+        PhaseTimer.mark(Phase.PARSE);
+        assertNull(PhaseTimer.serverTiming());
+        PhaseTimer.end("test-transformer");
+        assertNull(PhaseTimer.serverTiming());
+    }
+}
@@ -0,0 +1,54 @@
+package com.mockapi.transformers.timing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SlowRequestLogTest {
+
+    private static SlowRequest slow(String requestId) {
+        return new SlowRequest(0, "test-transformer", requestId, "IRM_ADJUSTMENT",
+                null, 60_000_000, new long[Phase.values().length], 0);
+    }
+
+    private static List<String> ids(List<SlowRequest> requests) {
+        return requests.stream().map(SlowRequest::getRequestId).collect(Collectors.toList());
+    }
+
+    @Test
+    void listsNewestFirstUpToTheLimit() {
+        SlowRequestLog log = new SlowRequestLog(8);
+        log.add(slow("R1"));
+        log.add(slow("R2"));
+        log.add(slow("R3"));
+
+        assertEquals(List.of("R3", "R2", "R1"), ids(log.recent(50)));
+        assertEquals(List.of("R3", "R2"), ids(log.recent(2)));
+    }
+
+    @Test
+    void overwritesTheOldestOnceFull() {
+        SlowRequestLog log = new SlowRequestLog(2);
+        log.add(slow("R1"));
+        log.add(slow("R2"));
+        log.add(slow("R3"));
+
+        assertEquals(List.of("R3", "R2"), ids(log.recent(50)));
+        assertEquals(3, log.captured());
+        assertEquals(2, log.capacity());
+    }
+
+    @Test
+    void clearEmptiesTheLog() {
+        SlowRequestLog log = new SlowRequestLog(2);
+        log.add(slow("R1"));
+        log.clear();
+
+        assertTrue(log.recent(50).isEmpty());
+        assertEquals(0, log.captured());
+    }
+}
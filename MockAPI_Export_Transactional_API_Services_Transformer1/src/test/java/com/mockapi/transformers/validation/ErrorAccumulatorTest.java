@@ -0,0 +1,51 @@
+package com.mockapi.transformers.validation;
+
+import com.mockapi.transformers.common.JsonFragment;
+import com.mockapi.transformers.common.ResponseBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ErrorAccumulatorTest {
+
+    private static final ViolationListener IGNORE = (code, description) -> { };
+
+    private static String render(JsonFragment fragment) {
+        ResponseBuffer out = ResponseBuffer.local();
+        fragment.writeTo(out);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void singleErrorMatchesTheBaselineFormat() {
+        ErrorAccumulator errors = ErrorAccumulator.begin(IGNORE);
+        errors.onViolation("EF_HDR_001", "FIRC Number is mandatory");
+
+        assertEquals("\"EF_HDR_001\"", render(errors.codes()));
+        assertEquals("\"FIRC Number is mandatory.\"", render(errors.descriptions()));
+        assertEquals(ErrorCodes.id("EF_HDR_001"), errors.firstCode());
+    }
+
+    @Test
+    void errorsAreListedInReportOrder() {
+        ErrorAccumulator errors = ErrorAccumulator.begin(IGNORE);
+        errors.onViolation("EF_HDR_001", "FIRC Number is mandatory");
+        errors.onViolation("EF_HDR_002", "AD Code is mandatory");
+
+        assertEquals("\"EF_HDR_001,EF_HDR_002\"", render(errors.codes()));
+        assertEquals("\"FIRC Number is mandatory. AD Code is mandatory.\"", render(errors.descriptions()));
+        assertEquals(ErrorCodes.id("EF_HDR_001"), errors.firstCode());
+    }
+
+    @Test
+    void beginEmptiesTheThreadsAccumulator() {
+        ErrorAccumulator.begin(IGNORE).onViolation("EF_HDR_001", "FIRC Number is mandatory");
+
+        ErrorAccumulator errors = ErrorAccumulator.begin(IGNORE);
+        assertTrue(errors.isEmpty());
+        assertEquals(-1, errors.firstCode());
+    }
+}
@@ -0,0 +1,114 @@
+package com.mockapi.transformers.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FieldFormatTest {
+
+    private static boolean matches(FieldFormat format, String value) {
+        return format.matches(value, 0, value.length(),
+                FieldFormat.DEFAULT_PRECISION, FieldFormat.DEFAULT_SCALE);
+    }
+
+    // ---------- DATE ----------
+
+    @ParameterizedTest
+    @ValueSource(strings = {"01/01/2024", "31/12/2024", "30/04/2024", "29/02/2024", "29/02/2000", "28/02/1900"})
+    void acceptsCalendarDates(String value) {
+        assertTrue(matches(FieldFormat.DATE, value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"31/04/2024", "29/02/2023", "29/02/1900", "00/01/2024", "32/01/2024",
+            "01/00/2024", "01/13/2024", "01/01/0000", "1/1/2024", "01-01-2024", "01/01/20a4", ""})
+    void rejectsImpossibleOrMisshapenDates(String value) {
+        assertFalse(matches(FieldFormat.DATE, value));
+    }
+
+    // ---------- DECIMAL ----------
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "1500", "1500.25", "123456789012", "123456789012.1234", "0.0001"})
+    void acceptsDecimalsWithinPrecisionAndScale(String value) {
+        assertTrue(matches(FieldFormat.DECIMAL, value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1234567890123", "1.12345", "1.", ".5", "1.2.3", "-1", "+1", "1e3", "1,000", ""})
+    void rejectsDecimalsOutsidePrecisionAndScale(String value) {
+        assertFalse(matches(FieldFormat.DECIMAL, value));
+    }
+
+    @Test
+    void decimalLimitsComeFromTheRule() {
+        assertTrue(FieldFormat.DECIMAL.matches("999.99", 0, 6, 5, 2));
+        assertFalse(FieldFormat.DECIMAL.matches("9999.9", 0, 6, 5, 2));
+        assertFalse(FieldFormat.DECIMAL.matches("99.999", 0, 6, 5, 2));
+        assertTrue(FieldFormat.DECIMAL.matches("42", 0, 2, 2, 0));
+        assertFalse(FieldFormat.DECIMAL.matches("4.2", 0, 3, 2, 0));
+    }
+
+    // ---------- CURRENCY ----------
+
+    @ParameterizedTest
+    @ValueSource(strings = {"USD", "EUR", "INR"})
+    void acceptsIsoCurrencyCodes(String value) {
+        assertTrue(matches(FieldFormat.CURRENCY, value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"QQQ", "usd", "US", "USDT", "U5D", ""})
+    void rejectsUnknownCurrencyCodes(String value) {
+        assertFalse(matches(FieldFormat.CURRENCY, value));
+    }
+
+    // ---------- Codes ----------
+
+    @Test
+    void adCodeIsSevenDigits() {
+        assertTrue(matches(FieldFormat.AD_CODE, "0123456"));
+        assertFalse(matches(FieldFormat.AD_CODE, "012345"));
+        assertFalse(matches(FieldFormat.AD_CODE, "01234567"));
+        assertFalse(matches(FieldFormat.AD_CODE, "012345A"));
+    }
+
+    @Test
+    void ieCodeIsTenUpperCaseAlphanumerics() {
+        assertTrue(matches(FieldFormat.IE_CODE, "ABCDE1234F"));
+        assertFalse(matches(FieldFormat.IE_CODE, "ABCDE1234"));
+        assertFalse(matches(FieldFormat.IE_CODE, "ABCDE1234FG"));
+        assertFalse(matches(FieldFormat.IE_CODE, "abcde1234f"));
+    }
+
+    @Test
+    void portCodeIsCountryThenFourAlphanumerics() {
+        assertTrue(matches(FieldFormat.PORT_CODE, "INBOM4"));
+        assertTrue(matches(FieldFormat.PORT_CODE, "IN1234"));
+        assertFalse(matches(FieldFormat.PORT_CODE, "I1BOM4"));
+        assertFalse(matches(FieldFormat.PORT_CODE, "IN-BOM"));
+        assertFalse(matches(FieldFormat.PORT_CODE, "INBOM"));
+        assertFalse(matches(FieldFormat.PORT_CODE, "INBOM45"));
+        assertFalse(matches(FieldFormat.PORT_CODE, "inbom4"));
+    }
+
+    // ---------- Region and names ----------
+
+    @Test
+    void checksOnlyTheGivenRegion() {
+        String value = "  USD  ";
+        assertTrue(FieldFormat.CURRENCY.matches(value, 2, 5, 0, 0));
+        assertFalse(FieldFormat.CURRENCY.matches(value, 1, 5, 0, 0));
+    }
+
+    @Test
+    void namesAreLowerCaseWithDashes() {
+        assertEquals(FieldFormat.AD_CODE, FieldFormat.fromName("ad-code"));
+        assertEquals(FieldFormat.PORT_CODE, FieldFormat.fromName(" port-code "));
+        assertEquals(FieldFormat.NONE, FieldFormat.fromName(null));
+    }
+}
@@ -0,0 +1,87 @@
+package com.mockapi.transformers.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mockapi.transformers.common.ParsedRequest;
+import com.mockapi.transformers.common.ResponseBuffer;
+import com.mockapi.transformers.common.StreamingRequestParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ItemValidationTest {
+
+    private static final ServiceRules rules = ValidationRules.forService("shipping-bill-adjustment");
+
+    /** {@code count} invoices, every {@code failEvery}-th one without an invoice number. */
+    private static ParsedRequest invoices(int count, int failEvery) throws IOException {
+        StringBuilder json = new StringBuilder("{\"service-input\":{\"invoiceList\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) json.append(',');
+            json.append("{\"invoiceSerialNo\":\"").append(i + 1).append('"');
+            if (i % failEvery != 0) {
+                json.append(",\"invoiceNumber\":\"INV").append(i).append('"');
+            }
+            json.append(",\"invoiceDate\":\"01/09/2026\",\"writeoffAmount\":\"10.0000\"")
+                .append(",\"invoiceClosureIndicator\":\"1\"}");
+        }
+        json.append("]}}");
+        return StreamingRequestParser.parse(json.toString().getBytes(StandardCharsets.UTF_8),
+                rules.getSchema(), Integer.MAX_VALUE);
+    }
+
+    private static List<Integer> failedIndexes(ItemReport report) {
+        List<Integer> indexes = new ArrayList<>();
+        report.getFailures().forEach(failure -> indexes.add(failure.getIndex()));
+        return indexes;
+    }
+
+    @Test
+    void parallelValidationMatchesSequentialInRequestOrder() throws IOException {
+        ParsedRequest request = invoices(1000, 7);
+
+        ItemReport sequential = rules.validateItems(request, Integer.MAX_VALUE);
+        ItemReport parallel = rules.validateItems(request, 0);
+
+        assertEquals(143, sequential.getFailures().size());
+        assertEquals(failedIndexes(sequential), failedIndexes(parallel));
+        assertEquals(List.of("EM_DET_027"), parallel.getFailures().get(1).getCodes());
+        assertEquals(7, parallel.getFailures().get(1).getIndex());
+    }
+
+    @Test
+    void itemDescriptionsUseTheSentenceFormatOfTheResponse() throws IOException {
+        ParsedRequest request = StreamingRequestParser.parse((
+                "{\"service-input\":{\"invoiceList\":[{\"invoiceSerialNo\":\"1\",\"invoiceDate\":\"31/02/2026\","
+                + "\"writeoffAmount\":\"10.0000\",\"invoiceClosureIndicator\":\"1\"}]}}")
+                .getBytes(StandardCharsets.UTF_8), rules.getSchema(), Integer.MAX_VALUE);
+
+        ItemReport report = rules.validateItems(request, Integer.MAX_VALUE);
+        ItemFailure failure = report.getFailures().get(0);
+        assertEquals(List.of("EM_DET_027", "EM_DET_028"), failure.getCodes());
+
+        // the same descriptions through the service-output accumulator
+        ErrorAccumulator errors = ErrorAccumulator.begin((code, description) -> { });
+        for (int i = 0; i < failure.getCodes().size(); i++) {
+            errors.onViolation(failure.getCodes().get(i), failure.getDescriptions().get(i));
+        }
+        ResponseBuffer out = ResponseBuffer.local();
+        errors.descriptions().writeTo(out);
+        String accumulated = new ObjectMapper().readTree(out.toByteArray()).asText();
+
+        String expected = failure.getDescriptions().get(0) + ". " + failure.getDescriptions().get(1) + ".";
+        assertEquals(expected, accumulated);
+        assertEquals(expected, failure.getErrorDesc());
+
+        out = ResponseBuffer.local();
+        report.writeTo(out);
+        JsonNode written = new ObjectMapper().readTree(out.toByteArray()).get(0);
+        assertEquals(expected, written.path("errorDesc").asText());
+        assertEquals("EM_DET_027,EM_DET_028", written.path("errorCode").asText());
+    }
+}
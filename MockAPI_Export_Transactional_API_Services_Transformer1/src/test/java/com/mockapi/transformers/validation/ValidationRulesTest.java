@@ -0,0 +1,172 @@
+package com.mockapi.transformers.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.mockapi.transformers.common.ParsedRequest;
+import com.mockapi.transformers.common.StreamingRequestParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * The rules keep the error codes and messages of the original transformers
+ * and fail templates.
+ */
+class ValidationRulesTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    /** Codes and messages reported for one request, in order. */
+    private static final class Violations implements ViolationListener {
+        final List<String> codes = new ArrayList<>();
+        final List<String> descriptions = new ArrayList<>();
+
+        @Override
+        public void onViolation(String code, String description) {
+            codes.add(code);
+            descriptions.add(description);
+        }
+    }
+
+    private static JsonNode resource(String name) throws IOException {
+        try (InputStream in = ValidationRulesTest.class.getResourceAsStream(name)) {
+            return mapper.readTree(in);
+        }
+    }
+
+    /** The service's valid sample payload with its service-input edited. */
+    private static Violations validate(String service, Consumer<ObjectNode> edit) throws IOException {
+        ObjectNode body = (ObjectNode) resource("/payloads/" + service + ".json");
+        edit.accept((ObjectNode) body.path("service-input"));
+
+        ServiceRules rules = ValidationRules.forService(service);
+        ParsedRequest parsed = StreamingRequestParser.parse(
+                mapper.writeValueAsBytes(body), rules.getSchema(), Integer.MAX_VALUE);
+
+        Violations violations = new Violations();
+        rules.validate(parsed, violations);
+        return violations;
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "efirc-issuance", "efirc-adjustment", "irm-adjustment",
+            "irm-extension", "shipping-bill-adjustment", "shipping-bill-extension"})
+    void samplePayloadsPassAndInvalidSamplesFail(String service) throws IOException {
+        assertEquals(List.of(), validate(service, input -> { }).codes);
+
+        ServiceRules rules = ValidationRules.forService(service);
+        byte[] invalid = mapper.writeValueAsBytes(resource("/payloads/" + service + "-invalid.json"));
+        assertFalse(rules.validate(StreamingRequestParser.parse(invalid, rules.getSchema(), Integer.MAX_VALUE),
+                new Violations()));
+    }
+
+    @Test
+    void everyCodeBelongsToOneField() throws IOException {
+        Map<String, String> owners = new HashMap<>();
+
+        Iterator<Map.Entry<String, JsonNode>> services = resource(ValidationRules.RESOURCE).fields();
+        while (services.hasNext()) {
+            Map.Entry<String, JsonNode> service = services.next();
+            List<JsonNode> rules = new ArrayList<>();
+            service.getValue().path("fields").forEach(rules::add);
+            service.getValue().path("items").path("fields").forEach(rules::add);
+
+            for (JsonNode rule : rules) {
+                String owner = service.getKey() + "." + rule.path("field").asText();
+                String previous = owners.put(rule.path("code").asText(), owner);
+                assertNull(previous, rule.path("code").asText() + " is used by " + previous + " and " + owner);
+            }
+        }
+    }
+
+    @Test
+    void efircAdjustmentKeepsItsCodesAndMessages() throws IOException {
+        Violations violations = validate("efirc-adjustment", ObjectNode::removeAll);
+
+        assertEquals(Arrays.asList("EF_HDR_001", "EF_HDR_002", "EF_HDR_003", "EF_HDR_004", "EF_HDR_005",
+                "ED_HDR_087", "EF_HDR_006", "EF_HDR_007", "EF_HDR_008"), violations.codes);
+        assertEquals("FIRC Number is mandatory", violations.descriptions.get(0));
+        assertEquals("Adjustment Date is mandatory", violations.descriptions.get(5));
+
+        violations = validate("efirc-adjustment", input -> input.put("fircNumber", "F".repeat(51)));
+        assertEquals(List.of("EF_HDR_001"), violations.codes);
+        assertEquals(List.of("FIRC Number length should be <= 50"), violations.descriptions);
+    }
+
+    @Test
+    void templateCodesKeepTheirMessages() throws IOException {
+        Violations violations = validate("efirc-issuance", input -> input.put("irmNumber", "I".repeat(31)));
+        assertEquals(List.of("ED_HDR_063"), violations.codes);
+        assertEquals(List.of("Provided Remittance Reference Number is Incorrect. It should contain only "
+                + "alphanumeric characters and hyphens and maximum length of 30 characters"), violations.descriptions);
+
+        violations = validate("irm-adjustment", input -> input
+                .put("docPort", "IN-BOM")
+                .put("docNumber", "D".repeat(11))
+                .remove("irmNumber"));
+        assertEquals(List.of("EM_HDR_062", "ED_HDR_097", "EX_WO_002"), violations.codes);
+        assertEquals("Remittance Reference Number is mandatory", violations.descriptions.get(0));
+        assertEquals("invalid Document Number Data, Document Number should be Alphanumeric and length should be "
+                + "less than or equal to 20", violations.descriptions.get(1));
+        assertEquals("Provided Port of Discharge is Incorrect, Port of Discharge should contain characters and "
+                + "numbers only and length should be less than or equal to 6", violations.descriptions.get(2));
+
+        violations = validate("shipping-bill-extension", input -> input.remove("extensionDate"));
+        assertEquals(List.of("IM_HDR_025"), violations.codes);
+        assertEquals(List.of("Extension Date is Mandatory"), violations.descriptions);
+    }
+
+    @Test
+    void shippingBillAdjustmentKeepsItsTemplateMessages() throws IOException {
+        Violations violations = validate("shipping-bill-adjustment", input -> input
+                .put("exportType", "2")
+                .remove(Arrays.asList("portCode", "adjustmentIndicator", "formNo")));
+
+        assertEquals(List.of("EM_HDR_001", "EX_SB_003", "EM_HDR_009"), violations.codes);
+        assertEquals(List.of("Port Code is Required",
+                "Write Off Indicator is Mandatory, please provide Write Off Indicator by referring to physical bill",
+                "Form Number is Required"), violations.descriptions);
+
+        violations = validate("shipping-bill-adjustment", input -> input.remove("shippingBillDate"));
+        assertEquals(List.of("EM_HDR_003"), violations.codes);
+        assertEquals(List.of("Shipping Bill Date is Required"), violations.descriptions);
+
+        // a per-kind description leaves the other kinds generated
+        violations = validate("shipping-bill-adjustment", input -> input.put("portCode", "INBOM"));
+        assertEquals(List.of("EM_HDR_001"), violations.codes);
+        assertEquals(List.of("Port Code length should be 6"), violations.descriptions);
+    }
+
+    @Test
+    void invoiceErrorsUseTheirOwnCodes() throws IOException {
+        ServiceRules rules = ValidationRules.forService("shipping-bill-adjustment");
+        ObjectNode body = (ObjectNode) resource("/payloads/shipping-bill-adjustment.json");
+        ((ObjectNode) body.path("service-input").path("invoiceList").get(0)).remove("invoiceSerialNo");
+
+        ParsedRequest parsed = StreamingRequestParser.parse(
+                mapper.writeValueAsBytes(body), rules.getSchema(), Integer.MAX_VALUE);
+        Violations violations = new Violations();
+
+        assertFalse(rules.validate(parsed, violations));
+        assertEquals(List.of("EM_DET_026"), violations.codes);
+        assertEquals(List.of("Invoice Serial Number is Mandatory, please provide Invoice Serial Number by "
+                + "referring to physical bill"), violations.descriptions);
+        assertFalse(rules.validateItems(parsed, Integer.MAX_VALUE).isEmpty());
+    }
+}